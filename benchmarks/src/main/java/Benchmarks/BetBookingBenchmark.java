@@ -0,0 +1,53 @@
+package Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import Model.Actors.Player;
+import Model.Table.Hands.PlayerHand;
+import Model.Table.Positions.PlayerPosition;
+import Model.Table.Table;
+import org.openjdk.jmh.annotations.*;
+import static Model.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetBookingBenchmark {
+
+    private Table table;
+    private Player player;
+
+    /** sets up a table with an open round. Each benchmark clears the bets it books before returning, so the round is
+     * never dealt or settled. */
+    @Setup(Level.Trial)
+    public void setupTable() {
+        table = new Table(DEFAULT_NUMBER_OF_PLAYERS, DEFAULT_NUMBER_OF_DECKS, true, 42L);
+        player = table.getPlayers().getFirst();
+        table.startupRoutine();
+    }
+
+    /** measures booking a standard bet through the standard bet processor, along with clearing it from the position's
+     * hand, which is reused from the position's preallocated hands. */
+    @Benchmark
+    public Table standardBet() {
+        PlayerPosition position = player.getDefaultPosition();
+        table.bookStandardBet(player, position, DEFAULT_PLAYER_BET_AMOUNT);
+        position.clearHands();
+        return table;
+    }
+
+    /** measures booking a standard bet followed by insurance and double down bets on the same hand, along with
+     * clearing them. */
+    @Benchmark
+    public Table standardInsuranceAndDoubleBets() {
+        PlayerPosition position = player.getDefaultPosition();
+        table.bookStandardBet(player, position, DEFAULT_PLAYER_BET_AMOUNT);
+        PlayerHand hand = position.getHands().getFirst();
+        table.bookInsuranceBet(player, position, hand, DEFAULT_PLAYER_INSURANCE_BET);
+        table.bookDoubleDownBet(player, position, hand);
+        position.clearHands();
+        return table;
+    }
+}
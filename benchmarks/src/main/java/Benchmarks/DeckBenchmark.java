@@ -0,0 +1,88 @@
+package Benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import Model.Cards.Card;
+import Model.Cards.Deck;
+import Model.Cards.DoubleBufferedDeck;
+import Model.Cards.InfiniteDeck;
+import Model.Cards.LazyDeck;
+import org.openjdk.jmh.annotations.*;
+import static Model.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"1", "4", "8"})
+    public int copies;
+
+    private SplittableRandom random;
+    private Deck deck;
+    private Deck bufferedDeck;
+    private Deck lazyDeck;
+    private Deck infiniteDeck;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        deck = new Deck(copies, random);
+        // the buffered deck shuffles on its own thread, so it is given a generator of its own
+        bufferedDeck = new DoubleBufferedDeck(copies, new SplittableRandom(42));
+        lazyDeck = new LazyDeck(copies, random);
+        infiniteDeck = new InfiniteDeck(random);
+    }
+
+    /** measures the cost of building and shuffling a new shoe. */
+    @Benchmark
+    public Deck construct() {
+        return new Deck(copies, random);
+    }
+
+    /** measures the cost of reshuffling an existing shoe. */
+    @Benchmark
+    public Deck createNewDeck() {
+        deck.createNewDeck();
+        return deck;
+    }
+
+    /** measures the cost of dealing a single card, including the occasional reshuffle at the cut card. */
+    @Benchmark
+    public Card deal() {
+        if(deck.size() < NEW_DECK_THRESHOLD) {
+            deck.createNewDeck();
+        }
+        return deck.deal();
+    }
+
+    /** measures the cost of dealing a single card from a double-buffered deck, which prepares its next shoe in the
+     * background and swaps it in at the cut card. */
+    @Benchmark
+    public Card dealDoubleBuffered() {
+        if(bufferedDeck.size() < NEW_DECK_THRESHOLD) {
+            bufferedDeck.createNewDeck();
+        }
+        return bufferedDeck.deal();
+    }
+
+    /** measures the cost of dealing a single card from a lazy deck, which shuffles one card at a time as it deals and
+     * so only pays for shuffling the cards dealt before the cut card. */
+    @Benchmark
+    public Card dealLazy() {
+        if(lazyDeck.needsNewDeck()) {
+            lazyDeck.createNewDeck();
+        }
+        return lazyDeck.deal();
+    }
+
+    /** measures the cost of dealing a single card from an infinite deck, which never needs reshuffling. The number of
+     * copies has no effect on it. */
+    @Benchmark
+    public Card dealInfinite() {
+        return infiniteDeck.deal();
+    }
+}
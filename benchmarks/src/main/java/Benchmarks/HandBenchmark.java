@@ -0,0 +1,37 @@
+package Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import Model.Cards.Card;
+import Model.Table.Hands.Hand;
+import org.openjdk.jmh.annotations.*;
+import static Model.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+
+    // a soft hand that turns hard, so every branch of the value calculation is exercised
+    private final Card[] cards = {Card.of(ACE_RANK, 0), Card.of(5, 1), Card.of(ACE_RANK, 2), Card.of(9, 3)};
+    private Hand hand;
+
+    @Setup
+    public void setup() {
+        hand = new Hand();
+    }
+
+    /** measures receiving a four card hand and reading its value after every card. */
+    @Benchmark
+    public int receiveAndValue() {
+        hand.clear();
+        int total = 0;
+        for(Card card : cards) {
+            hand.receiveCard(card);
+            total += hand.getHandValue();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,42 @@
+package Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import Model.Actors.Player;
+import Model.Table.Table;
+import org.openjdk.jmh.annotations.*;
+import static Model.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundBenchmark {
+
+    @Param({"1", "5"})
+    public int playerCount;
+
+    private Table table;
+    private Player[] players;
+
+    @Setup
+    public void setup() {
+        table = new Table(playerCount, DEFAULT_NUMBER_OF_DECKS, true, 42L);
+        players = table.getPlayers().toArray(new Player[0]);
+    }
+
+    /** measures end-to-end rounds per second, from the startup routine through to the wind down routine. */
+    @Benchmark
+    public Table round() {
+        table.startupRoutine();
+        for(Player player : players) {
+            table.bookStandardBet(player, player.getDefaultPosition(), DEFAULT_PLAYER_BET_AMOUNT);
+        }
+        table.drawRoutine();
+        table.executePlayerStrategyForAll();
+        table.executeDealerStrategy();
+        table.windDownRoutine();
+        return table;
+    }
+}
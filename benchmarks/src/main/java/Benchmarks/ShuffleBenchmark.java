@@ -0,0 +1,44 @@
+package Benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import Model.Cards.Shuffles.ShuffleModel;
+import Model.Cards.Shuffles.Shuffler;
+import org.openjdk.jmh.annotations.*;
+import static Model.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShuffleBenchmark {
+
+    @Param({"FISHER_YATES", "RIFFLE", "STRIP", "BOX", "CUT", "CASINO"})
+    public ShuffleModel model;
+
+    @Param({"1", "4", "8"})
+    public int copies;
+
+    private SplittableRandom random;
+    private Shuffler shuffler;
+    private byte[] shoe;
+
+    @Setup
+    public void setup() {
+        random = new SplittableRandom(42);
+        shuffler = model.create();
+        shoe = new byte[copies * NUMBER_OF_CARDS_PER_DECK];
+        for(int i = 0; i < shoe.length; i++) {
+            shoe[i] = (byte) (i % NUMBER_OF_CARDS_PER_DECK);
+        }
+    }
+
+    /** measures the cost of shuffling a whole shoe in place with each shuffle model. */
+    @Benchmark
+    public byte[] shuffle() {
+        shuffler.shuffle(shoe, random);
+        return shoe;
+    }
+}
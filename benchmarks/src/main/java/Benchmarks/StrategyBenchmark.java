@@ -0,0 +1,80 @@
+package Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import Model.Actors.Strategies.Action;
+import Model.Actors.Strategies.DealerStrategy;
+import Model.Actors.Strategies.PlayerStrategy;
+import Model.Cards.Card;
+import Model.Table.Hands.DealerHand;
+import Model.Table.Hands.PlayerHand;
+import Model.Table.Positions.PlayerPosition;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import static Model.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+
+    // opening hands covering the hard, soft, and splitting tables
+    private static final int[][] PLAYER_RANKS = {{10, 6}, {9, 2}, {ACE_RANK, 7}, {ACE_RANK, 3}, {8, 8}, {5, 5},
+            {KING_RANK, 2}, {7, 4}};
+    private static final int[] DEALER_RANKS = {2, 6, 7, 10, ACE_RANK};
+    private static final int[][] DEALER_HAND_RANKS = {{10, 6}, {ACE_RANK, 6}, {10, 7}, {5, 4}, {9, 9}};
+
+    private final PlayerStrategy playerStrategy = new PlayerStrategy();
+    private final DealerStrategy dealerStrategy = new DealerStrategy();
+    private PlayerHand[] playerHands;
+    private DealerHand[] upcards;
+    private DealerHand[] dealerHands;
+
+    @Setup
+    public void setup() {
+        PlayerPosition position = new PlayerPosition(1);
+        playerHands = new PlayerHand[PLAYER_RANKS.length];
+        for(int i = 0; i < PLAYER_RANKS.length; i++) {
+            playerHands[i] = new PlayerHand(position);
+            for(int rank : PLAYER_RANKS[i]) {
+                playerHands[i].receiveCard(Card.of(rank, 0));
+            }
+        }
+        upcards = new DealerHand[DEALER_RANKS.length];
+        for(int i = 0; i < DEALER_RANKS.length; i++) {
+            upcards[i] = new DealerHand();
+            upcards[i].receiveCard(Card.of(DEALER_RANKS[i], 1));
+            upcards[i].receiveCard(Card.of(10, 1));
+        }
+        dealerHands = new DealerHand[DEALER_HAND_RANKS.length];
+        for(int i = 0; i < DEALER_HAND_RANKS.length; i++) {
+            dealerHands[i] = new DealerHand();
+            for(int rank : DEALER_HAND_RANKS[i]) {
+                dealerHands[i].receiveCard(Card.of(rank, 2));
+            }
+        }
+    }
+
+    /** measures a full sweep of player decisions over every opening hand and dealer face-up card above. */
+    @Benchmark
+    @OperationsPerInvocation(40)
+    public void playerDecisions(Blackhole blackhole) {
+        for(PlayerHand playerHand : playerHands) {
+            for(DealerHand upcard : upcards) {
+                blackhole.consume(playerStrategy.executeStrategy(playerHand, upcard));
+            }
+        }
+    }
+
+    /** measures the dealer's hit/stand decision over a spread of hard and soft totals. */
+    @Benchmark
+    @OperationsPerInvocation(5)
+    public void dealerDecisions(Blackhole blackhole) {
+        for(DealerHand dealerHand : dealerHands) {
+            Action action = dealerStrategy.executeStrategy(dealerHand);
+            blackhole.consume(action);
+        }
+    }
+}
@@ -3,7 +3,12 @@ package Controller;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Scanner;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
 import Model.Actors.*;
+import Model.Actors.Strategies.Action;
+import Model.Cards.ShoeType;
+import Model.Chips;
 import Model.Table.*;
 import Model.Table.Hands.DealerHand;
 import Model.Table.Hands.PlayerHand;
@@ -17,26 +22,105 @@ public class Controller {
     private boolean isRunning;
     private final Scanner scanner;
     private final Table table;
+    private final int playerCount;
+    private final int deckCount;
+    private final int threadCount;
+    private final ShoeType shoeType;
+    private final SplittableRandom random;
+    private double precisionTarget;
+    private SimulationMetrics metrics;
 
     // default constructor
     public Controller(int playerCount, int deckCount, boolean isSimulation) {
+        this(playerCount, deckCount, isSimulation, DEFAULT_SIMULATION_THREADS);
+    }
+
+    /** constructor with a thread count. Simulations with more than one thread are played in parallel. */
+    public Controller(int playerCount, int deckCount, boolean isSimulation, int threadCount) {
+        this(playerCount, deckCount, isSimulation, threadCount, new SplittableRandom(),
+                defaultShoeType(isSimulation));
+    }
+
+    /** constructor with a thread count and a seed. A given seed and thread count reproduce identical statistics. */
+    public Controller(int playerCount, int deckCount, boolean isSimulation, int threadCount, long seed) {
+        this(playerCount, deckCount, isSimulation, threadCount, new SplittableRandom(seed),
+                defaultShoeType(isSimulation));
+    }
+
+    /** constructor with a thread count, a seed, and the type of shoe to deal from, e.g. to simulate a table with a
+     * continuous shuffling machine. */
+    public Controller(int playerCount, int deckCount, boolean isSimulation, int threadCount, long seed,
+                      ShoeType shoeType) {
+        this(playerCount, deckCount, isSimulation, threadCount, new SplittableRandom(seed), shoeType);
+    }
+
+    private Controller(int playerCount, int deckCount, boolean isSimulation, int threadCount,
+                       SplittableRandom random, ShoeType shoeType) {
         this.isSimulation = isSimulation;
         this.isRunning = true;
         this.scanner = new Scanner(System.in);
-        this.table = new Table(playerCount, deckCount, isSimulation);
+        this.random = random;
+        this.shoeType = shoeType;
+        this.table = new Table(playerCount, shoeType.create(deckCount, random.split()), isSimulation);
+        this.playerCount = playerCount;
+        this.deckCount = deckCount;
+        this.threadCount = threadCount;
+    }
+
+    /** returns the shoe used when none is given. Interactive games prepare each shoe in the background, so that the
+     * player never waits on a reshuffle. */
+    private static ShoeType defaultShoeType(boolean isSimulation) {
+        return isSimulation ? ShoeType.STANDARD : ShoeType.DOUBLE_BUFFERED;
     }
 
     /** initializes the emulator. */
     public void startGame() {
-        if(isSimulation) {runSimulation();} else {runGameLoop(); } }
+        if(isSimulation) {
+            if(threadCount > 1) {runParallelSimulation();} else {runSimulation();}
+        } else {runGameLoop(); } }
+
+    /** sets the precision at which simulations stop. Once the half-width of the 95% confidence interval for the
+     * expected value per hand (as a fraction of the bet, e.g. 0.001 for +/- 0.1%) drops below the target, the
+     * simulation ends. A target of zero disables precision mode, running the default number of iterations instead. */
+    public void setPrecisionTarget(double precisionTarget) {
+        this.precisionTarget = precisionTarget;
+    }
+
+    /** returns whether the given statistics are precise enough to end a precision-targeted simulation. */
+    private boolean isPrecisionReached(StreamingStatistics statistics) {
+        return precisionTarget > 0 && statistics.getCount() >= DEFAULT_PRECISION_CHECK_INTERVAL
+                && statistics.getConfidenceHalfWidth() < precisionTarget;
+    }
+
+    /** returns the live metrics of the current (or most recent) simulation. These are also registered over JMX for
+     * the duration of each simulation. */
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** creates and registers a fresh set of metrics for a new simulation. */
+    private void startMetrics() {
+        metrics = new SimulationMetrics();
+        metrics.register();
+    }
 
     /// Monte Carlo Simulation
+    /** plays the simulation rounds on a single table. Summary statistics are printed periodically rather than after
+     * every round, with live progress available over JMX in between. */
     public void runSimulation() {
         Instant start = Instant.now();
         table.printWelcomeMessage();
         Player mainPlayer = table.getPlayers().getFirst();
+        StreamingStatistics statistics = new StreamingStatistics();
+        long iterations = precisionTarget > 0 ? DEFAULT_MAX_PRECISION_ITERATIONS : DEFAULT_NUMBER_OF_ITERATIONS;
+        long startingChips = mainPlayer.getChipUnits();
+        long betUnits = Chips.toUnits(DEFAULT_PLAYER_BET_AMOUNT);
+        startMetrics();
+        SimulationMetrics.Recorder recorder = metrics.recorder(table);
+        long roundsPlayed = 0;
 
-        for(int i = 0; i < DEFAULT_NUMBER_OF_ITERATIONS; i++) {
+        for(long i = 0; i < iterations; i++) {
+            long openingChips = mainPlayer.getChipUnits();
             table.startupRoutine();
             table.bookStandardBet(mainPlayer, mainPlayer.getDefaultPosition(), DEFAULT_PLAYER_BET_AMOUNT);
             table.drawRoutine();
@@ -44,17 +128,59 @@ public class Controller {
             table.printDealerHand();
             table.executeDealerStrategy();
             table.windDownRoutine();
-            double runningProfit = mainPlayer.getChips() - DEFAULT_PLAYER_STARTING_CHIPS;
-            double averageProfitPerHand = runningProfit / ((double) i + 1);
-            double expectedValuePerHand = averageProfitPerHand / DEFAULT_PLAYER_BET_AMOUNT;
-            printStatistics(i + 1, runningProfit, averageProfitPerHand, expectedValuePerHand);
+            statistics.add((double) (mainPlayer.getChipUnits() - openingChips) / betUnits);
+            roundsPlayed = i + 1;
+            if(roundsPlayed % DEFAULT_METRICS_FLUSH_INTERVAL == 0) {
+                recorder.flush(statistics);
+            }
+            if(roundsPlayed % DEFAULT_STATISTICS_PRINT_INTERVAL == 0 && roundsPlayed < iterations) {
+                printStatistics(SimulationResult.of(table, roundsPlayed, mainPlayer.getChipUnits() - startingChips,
+                        statistics));
+            }
+            if(roundsPlayed % DEFAULT_PRECISION_CHECK_INTERVAL == 0 && isPrecisionReached(statistics)) {
+                break;
+            }
         }
+        recorder.flush(statistics);
+        metrics.unregister();
+        printStatistics(SimulationResult.of(table, roundsPlayed, mainPlayer.getChipUnits() - startingChips,
+                statistics));
         Instant end = Instant.now();
         Duration timeElapsed = Duration.between(start, end);
         long seconds = timeElapsed.getSeconds();
         System.out.println("Total processing time: " + seconds + " seconds.");
     }
 
+    /// Parallel Monte Carlo Simulation
+    /** splits the simulation rounds evenly across a fork-join pool. Each worker plays its share of the rounds on an
+     * independent table before the counters and profits of all workers are merged into a single result. In precision
+     * mode, the rounds are played in batches until the merged confidence interval is narrow enough. */
+    public void runParallelSimulation() {
+        Instant start = Instant.now();
+        table.printWelcomeMessage();
+        SimulationResult result;
+        startMetrics();
+
+        try(ForkJoinPool pool = new ForkJoinPool(threadCount)) {
+            if(precisionTarget > 0) {
+                long batchSize = (long) DEFAULT_PRECISION_CHECK_INTERVAL * threadCount;
+                result = runParallelBatch(pool, batchSize);
+                while(!isPrecisionReached(result.getStatistics())
+                        && result.getRoundCount() < DEFAULT_MAX_PRECISION_ITERATIONS) {
+                    result = result.merge(runParallelBatch(pool, batchSize));
+                }
+            } else {
+                result = runParallelBatch(pool, DEFAULT_NUMBER_OF_ITERATIONS);
+            }
+        }
+        metrics.unregister();
+        printStatistics(result);
+        Instant end = Instant.now();
+        Duration timeElapsed = Duration.between(start, end);
+        long seconds = timeElapsed.getSeconds();
+        System.out.println("Total processing time: " + seconds + " seconds across " + threadCount + " threads.");
+    }
+
     /// Interactive Game Loop
     public void runGameLoop() {
         table.printWelcomeMessage();
@@ -91,31 +217,44 @@ public class Controller {
         catch (InterruptedException i) {Thread.currentThread().interrupt();}
     }
 
+    /** plays the given number of rounds across the pool's workers, each with its own stream of random numbers. */
+    private SimulationResult runParallelBatch(ForkJoinPool pool, long rounds) {
+        long roundsPerWorker = (rounds + threadCount - 1) / threadCount;
+        return pool.invoke(new SimulationTask(playerCount, deckCount, shoeType, rounds, roundsPerWorker,
+                random.split(), metrics));
+    }
+
     /** prints summary statistics following a round of blackjack, including average profit per hand and the expected
      * value percentage. */
-    private void printStatistics(int handNumber, double runningProfit, double averageProfitPerHand,
-                                double expectedValuePerHand) {
+    private void printStatistics(SimulationResult result) {
         System.out.print("\n");
         System.out.println("---- SUMMARY STATISTICS ----");
-        System.out.println("Hand No. : " + handNumber);
-        System.out.println("Blackjack Count: " + table.getBlackjackCount());
+        System.out.println("Hand No. : " + result.getRoundCount());
+        System.out.println("Blackjack Count: " + result.getBlackjackCount());
         System.out.println("Blackjack Percentage: " +
-                ((double) table.getBlackjackCount() / (double) table.getHandCount()) * 100 + "%");
-        System.out.println("Win Count: " + table.getPlayerWinCount());
+                ((double) result.getBlackjackCount() / (double) result.getHandCount()) * 100 + "%");
+        System.out.println("Win Count: " + result.getPlayerWinCount());
         System.out.println("Win Percentage: " +
-                ((double) table.getPlayerWinCount() / (double) table.getHandCount()) * 100 + "%");
-        System.out.println("Loss Count: " + table.getPlayerLossCount());
+                ((double) result.getPlayerWinCount() / (double) result.getHandCount()) * 100 + "%");
+        System.out.println("Loss Count: " + result.getPlayerLossCount());
         System.out.println("Loss Percentage: " +
-                ((double) table.getPlayerLossCount() / (double) table.getHandCount()) * 100 + "%");
-        System.out.println("Push Count: " + table.getPushCount());
+                ((double) result.getPlayerLossCount() / (double) result.getHandCount()) * 100 + "%");
+        System.out.println("Push Count: " + result.getPushCount());
         System.out.println("Push Percentage: " +
-                ((double) table.getPushCount() / (double) table.getHandCount()) * 100 + "%");
-        System.out.println("Split Count: " + table.getSplitCount());
+                ((double) result.getPushCount() / (double) result.getHandCount()) * 100 + "%");
+        System.out.println("Split Count: " + result.getSplitCount());
         System.out.println("Split Percentage: " +
-                ((double) table.getSplitCount() /(double) table.getHandCount() * 100 + "%"));
-        System.out.println("Running Profit (Loss) : " + runningProfit);
-        System.out.println("Average Profit Per Hand: " + averageProfitPerHand);
-        System.out.println("Expected Value Per Hand: " + expectedValuePerHand * 100 + "%");
+                ((double) result.getSplitCount() /(double) result.getHandCount() * 100 + "%"));
+        System.out.println("Running Profit (Loss) : " + result.getProfit());
+        System.out.println("Average Profit Per Hand: " + result.getAverageProfitPerHand());
+        System.out.println("Expected Value Per Hand: " +
+                result.getExpectedValuePerHand(DEFAULT_PLAYER_BET_AMOUNT) * 100 + "%");
+        StreamingStatistics statistics = result.getStatistics();
+        System.out.println("Standard Deviation Per Hand: " + statistics.getStandardDeviation());
+        System.out.println("Expected Value Standard Error: " + statistics.getStandardError() * 100 + "%");
+        System.out.println("Expected Value 95% Confidence Interval: " +
+                (statistics.getMean() - statistics.getConfidenceHalfWidth()) * 100 + "% to " +
+                (statistics.getMean() + statistics.getConfidenceHalfWidth()) * 100 + "%");
     }
 
     /** initializes the first round of betting. This is a non-parameterized method for regular command line
@@ -234,20 +373,17 @@ public class Controller {
                     } else {
                         System.out.println("HIT | STAND");
                     }
-                    String playerAction;
                     try {
-                        playerAction = scanner.next().toUpperCase();
+                        Action playerAction = Action.fromInput(scanner.next());
 
-                        if (playerAction.equalsIgnoreCase(INSURANCE)) {
+                        if (playerAction == Action.INSURANCE) {
                             handleInsuranceCase(hand);
                         } else {
                             table.handlePlayerAction(hand.getActingPlayer(), hand, playerAction);
                             table.printActivePlayerHands();
                             table.printDealerFirstCard();
                         }
-                        if (playerAction.equalsIgnoreCase(STAND)) {
-                            playerCanAct = false;
-                        } else if (playerAction.equalsIgnoreCase(DOUBLE)) {
+                        if (playerAction == Action.STAND || playerAction == Action.DOUBLE) {
                             playerCanAct = false;
                         }
                     } catch (RuntimeException e) {
@@ -0,0 +1,150 @@
+package Controller;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import Model.Table.Table;
+
+import static Model.Constants.*;
+
+public class SimulationMetrics implements SimulationMetricsMBean {
+
+    /** live counters shared by every simulation worker. Striped adders keep contention low when many workers flush at
+     * once, and workers only flush every few thousand rounds so the counters stay off the hot path. */
+    private final LongAdder roundsPlayed = new LongAdder();
+    private final LongAdder handsPlayed = new LongAdder();
+    private final LongAdder splitCount = new LongAdder();
+    private final LongAdder doubleCount = new LongAdder();
+    private final LongAdder blackjackCount = new LongAdder();
+    private final LongAdder reshuffleCount = new LongAdder();
+    private final DoubleAdder totalResult = new DoubleAdder();
+    private final long startTime = System.nanoTime();
+    private ObjectName name;
+
+    /** registers the metrics with the platform MBean server, replacing the metrics of any earlier simulation. Metrics
+     * are a monitoring aid only, so the simulation carries on regardless if registration fails. */
+    public void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(SIMULATION_METRICS_OBJECT_NAME);
+            if(server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(this, objectName);
+            this.name = objectName;
+        } catch (JMException e) {
+            System.out.println("Simulation metrics are unavailable: " + e.getMessage());
+        }
+    }
+
+    /** removes the metrics from the platform MBean server once the simulation has finished. */
+    public void unregister() {
+        if(name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            // already removed, most likely by a newer simulation
+        }
+        name = null;
+    }
+
+    /** returns a recorder for a single worker's table. */
+    public Recorder recorder(Table table) {
+        return new Recorder(table);
+    }
+
+    @Override
+    public long getRoundsPlayed() {
+        return roundsPlayed.sum();
+    }
+
+    @Override
+    public long getHandsPlayed() {
+        return handsPlayed.sum();
+    }
+
+    @Override
+    public long getSplitCount() {
+        return splitCount.sum();
+    }
+
+    @Override
+    public long getDoubleCount() {
+        return doubleCount.sum();
+    }
+
+    @Override
+    public long getBlackjackCount() {
+        return blackjackCount.sum();
+    }
+
+    @Override
+    public long getReshuffleCount() {
+        return reshuffleCount.sum();
+    }
+
+    @Override
+    public double getRoundsPerSecond() {
+        return getRoundsPlayed() / getElapsedSeconds();
+    }
+
+    @Override
+    public double getHandsPerSecond() {
+        return getHandsPlayed() / getElapsedSeconds();
+    }
+
+    @Override
+    public double getExpectedValue() {
+        long rounds = getRoundsPlayed();
+        return rounds == 0 ? 0 : totalResult.sum() / rounds;
+    }
+
+    @Override
+    public double getElapsedSeconds() {
+        return (System.nanoTime() - startTime) / 1e9;
+    }
+
+    /** flushes a single worker's progress into the shared metrics. The table's counters only ever grow, so the
+     * recorder remembers what it flushed last time and adds the difference. Each recorder belongs to one thread. */
+    public class Recorder {
+
+        private final Table table;
+        private long rounds;
+        private long hands;
+        private long splits;
+        private long doubles;
+        private long blackjacks;
+        private long reshuffles;
+        private double result;
+
+        private Recorder(Table table) {
+            this.table = table;
+        }
+
+        /** adds everything played since the previous flush. The statistics hold the main player's per round results
+         * so far, from which the number of rounds and the total result are recovered. */
+        public void flush(StreamingStatistics statistics) {
+            long currentRounds = statistics.getCount();
+            double currentResult = statistics.getMean() * currentRounds;
+            roundsPlayed.add(currentRounds - rounds);
+            handsPlayed.add(table.getHandCount() - hands);
+            splitCount.add(table.getSplitCount() - splits);
+            doubleCount.add(table.getDoubleCount() - doubles);
+            blackjackCount.add(table.getBlackjackCount() - blackjacks);
+            reshuffleCount.add(table.getReshuffleCount() - reshuffles);
+            totalResult.add(currentResult - result);
+            rounds = currentRounds;
+            hands = table.getHandCount();
+            splits = table.getSplitCount();
+            doubles = table.getDoubleCount();
+            blackjacks = table.getBlackjackCount();
+            reshuffles = table.getReshuffleCount();
+            result = currentResult;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package Controller;
+
+/** the management interface of a running simulation. Exposed over JMX so that long simulations can be monitored from
+ * tools such as JConsole or VisualVM. */
+public interface SimulationMetricsMBean {
+
+    long getRoundsPlayed();
+
+    long getHandsPlayed();
+
+    long getSplitCount();
+
+    long getDoubleCount();
+
+    long getBlackjackCount();
+
+    long getReshuffleCount();
+
+    double getRoundsPerSecond();
+
+    double getHandsPerSecond();
+
+    /** returns the main player's expected value per round so far, as a fraction of the standard bet. */
+    double getExpectedValue();
+
+    double getElapsedSeconds();
+}
@@ -0,0 +1,96 @@
+package Controller;
+
+import Model.Chips;
+import Model.Table.Table;
+
+public class SimulationResult {
+
+    /** the summary counters collected by a single simulation worker (or the merged counters of several workers). All
+     * counters are stored as longs so that merging the results of many workers cannot overflow. */
+    private final long roundCount;
+    private final long handCount;
+    private final long splitCount;
+    private final long blackjackCount;
+    private final long playerWinCount;
+    private final long playerLossCount;
+    private final long pushCount;
+    private final long profit; // in chip sub-units, so that merged profits stay exact
+
+    // per round results of the main player, measured in multiples of the standard bet
+    private final StreamingStatistics statistics;
+
+    public SimulationResult(long roundCount, long handCount, long splitCount, long blackjackCount, long playerWinCount,
+                            long playerLossCount, long pushCount, long profit, StreamingStatistics statistics) {
+        this.roundCount = roundCount;
+        this.handCount = handCount;
+        this.splitCount = splitCount;
+        this.blackjackCount = blackjackCount;
+        this.playerWinCount = playerWinCount;
+        this.playerLossCount = playerLossCount;
+        this.pushCount = pushCount;
+        this.profit = profit;
+        this.statistics = statistics;
+    }
+
+    /** captures the counters of a table after a given number of rounds along with the main player's profit (in chip
+     * sub-units) and the statistics of their per round results. */
+    public static SimulationResult of(Table table, long roundCount, long profit, StreamingStatistics statistics) {
+        return new SimulationResult(roundCount, table.getHandCount(), table.getSplitCount(), table.getBlackjackCount(),
+                table.getPlayerWinCount(), table.getPlayerLossCount(), table.getPushCount(), profit, statistics);
+    }
+
+    /** combines the counters of two independent simulation runs into a single result. */
+    public SimulationResult merge(SimulationResult other) {
+        return new SimulationResult(roundCount + other.roundCount, handCount + other.handCount,
+                splitCount + other.splitCount, blackjackCount + other.blackjackCount,
+                playerWinCount + other.playerWinCount, playerLossCount + other.playerLossCount,
+                pushCount + other.pushCount, profit + other.profit, statistics.merge(other.statistics));
+    }
+
+    /** returns the average profit per round played. */
+    public double getAverageProfitPerHand() {
+        return getProfit() / (double) roundCount;
+    }
+
+    /** returns the expected value per round as a fraction of the given bet size. */
+    public double getExpectedValuePerHand(double betAmount) {
+        return getAverageProfitPerHand() / betAmount;
+    }
+
+    public long getRoundCount() {
+        return roundCount;
+    }
+
+    public long getHandCount() {
+        return handCount;
+    }
+
+    public long getSplitCount() {
+        return splitCount;
+    }
+
+    public long getBlackjackCount() {
+        return blackjackCount;
+    }
+
+    public long getPlayerWinCount() {
+        return playerWinCount;
+    }
+
+    public long getPlayerLossCount() {
+        return playerLossCount;
+    }
+
+    public long getPushCount() {
+        return pushCount;
+    }
+
+    /** returns the main player's profit in chips. */
+    public double getProfit() {
+        return Chips.toChips(profit);
+    }
+
+    public StreamingStatistics getStatistics() {
+        return statistics;
+    }
+}
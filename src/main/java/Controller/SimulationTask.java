@@ -0,0 +1,83 @@
+package Controller;
+
+import java.io.Serial;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import Model.Actors.Player;
+import Model.Cards.ShoeType;
+import Model.Chips;
+import Model.Table.Table;
+
+import static Model.Constants.*;
+
+public class SimulationTask extends RecursiveTask<SimulationResult> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int playerCount;
+    private final int deckCount;
+    private final ShoeType shoeType;
+    private final long rounds;
+    private final long roundsPerWorker;
+    // tasks are never serialized, and neither the generator nor the metrics can be
+    private final transient SplittableGenerator random;
+    private final transient SimulationMetrics metrics;
+
+    /** splits a Monte Carlo simulation of the given number of rounds into sub-tasks of at most roundsPerWorker rounds.
+     * Each sub-task plays on its own table, deck, and players so that no state is shared between workers. The random
+     * number generator is split alongside the rounds, giving each worker an independent stream. Since the sub-tasks
+     * are always split in the same way, a given generator seed and thread count reproduce identical results. Progress
+     * is flushed to the shared metrics as the rounds are played. */
+    public SimulationTask(int playerCount, int deckCount, ShoeType shoeType, long rounds, long roundsPerWorker,
+                          SplittableGenerator random, SimulationMetrics metrics) {
+        this.playerCount = playerCount;
+        this.deckCount = deckCount;
+        this.shoeType = shoeType;
+        this.rounds = rounds;
+        this.roundsPerWorker = Math.max(1, roundsPerWorker);
+        this.random = random;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected SimulationResult compute() {
+        if(rounds <= roundsPerWorker) {
+            return simulate();
+        }
+        long half = rounds / 2;
+        SimulationTask left = new SimulationTask(playerCount, deckCount, shoeType, half, roundsPerWorker,
+                random.split(), metrics);
+        SimulationTask right = new SimulationTask(playerCount, deckCount, shoeType, rounds - half, roundsPerWorker,
+                random, metrics);
+        left.fork();
+        SimulationResult rightResult = right.compute();
+        return left.join().merge(rightResult);
+    }
+
+    /** plays this task's rounds on a fresh table and returns the counters collected along the way. */
+    private SimulationResult simulate() {
+        Table table = new Table(playerCount, shoeType.create(deckCount, random), true);
+        Player mainPlayer = table.getPlayers().getFirst();
+        long startingChips = mainPlayer.getChipUnits();
+        StreamingStatistics statistics = new StreamingStatistics();
+        long betUnits = Chips.toUnits(DEFAULT_PLAYER_BET_AMOUNT);
+        SimulationMetrics.Recorder recorder = metrics.recorder(table);
+
+        for(long i = 0; i < rounds; i++) {
+            long openingChips = mainPlayer.getChipUnits();
+            table.startupRoutine();
+            table.bookStandardBet(mainPlayer, mainPlayer.getDefaultPosition(), DEFAULT_PLAYER_BET_AMOUNT);
+            table.drawRoutine();
+            table.executePlayerStrategyForAll();
+            table.executeDealerStrategy();
+            table.windDownRoutine();
+            statistics.add((double) (mainPlayer.getChipUnits() - openingChips) / betUnits);
+            if((i + 1) % DEFAULT_METRICS_FLUSH_INTERVAL == 0) {
+                recorder.flush(statistics);
+            }
+        }
+        recorder.flush(statistics);
+        return SimulationResult.of(table, rounds, mainPlayer.getChipUnits() - startingChips, statistics);
+    }
+}
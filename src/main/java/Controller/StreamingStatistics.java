@@ -0,0 +1,70 @@
+package Controller;
+
+import static Model.Constants.CONFIDENCE_INTERVAL_Z_SCORE;
+
+public class StreamingStatistics {
+
+    /* running count, mean, and sum of squared deviations from the mean (Welford's algorithm). Updating these in a single
+     * pass keeps the variance numerically stable without storing any of the samples. */
+    private long count;
+    private double mean;
+    private double sumOfSquares;
+
+    public StreamingStatistics() {}
+
+    private StreamingStatistics(long count, double mean, double sumOfSquares) {
+        this.count = count;
+        this.mean = mean;
+        this.sumOfSquares = sumOfSquares;
+    }
+
+    /** adds a single sample to the running statistics. */
+    public void add(double sample) {
+        count++;
+        double delta = sample - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (sample - mean);
+    }
+
+    /** combines the statistics of two independent sets of samples (Chan et al.'s parallel update). */
+    public StreamingStatistics merge(StreamingStatistics other) {
+        if(other.count == 0) {
+            return new StreamingStatistics(count, mean, sumOfSquares);
+        } else if(count == 0) {
+            return new StreamingStatistics(other.count, other.mean, other.sumOfSquares);
+        }
+        long combinedCount = count + other.count;
+        double delta = other.mean - mean;
+        double combinedMean = mean + delta * other.count / combinedCount;
+        double combinedSumOfSquares = sumOfSquares + other.sumOfSquares +
+                delta * delta * ((double) count * other.count / combinedCount);
+        return new StreamingStatistics(combinedCount, combinedMean, combinedSumOfSquares);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /** returns the sample variance. */
+    public double getVariance() {
+        return count > 1 ? sumOfSquares / (count - 1) : 0;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /** returns the standard error of the mean. */
+    public double getStandardError() {
+        return count > 0 ? Math.sqrt(getVariance() / count) : Double.POSITIVE_INFINITY;
+    }
+
+    /** returns the half-width of the 95% confidence interval around the mean. */
+    public double getConfidenceHalfWidth() {
+        return CONFIDENCE_INTERVAL_Z_SCORE * getStandardError();
+    }
+}
@@ -1,28 +1,45 @@
 package Model.Actors;
 
+import Model.Chips;
+
 public class Actor {
 
-    private double chips;
+    // the actor's balance in sub-units of a chip (see Chips)
+    private long chipUnits;
 
     public Actor(double startingChips) {
-        this.chips = startingChips;
+        this.chipUnits = Chips.toUnits(startingChips);
     }
 
     /** receipts a given number of chips to the actor's total. */
     public void receiveChips(double chips) {
-        this.chips += chips;
+        receiveChipUnits(Chips.toUnits(chips));
+    }
+
+    /** receipts a given number of chip sub-units to the actor's total. */
+    public void receiveChipUnits(long units) {
+        this.chipUnits += units;
     }
 
     /** dispenses a given number of chips from the actor's total. */
     public void dispenseChips(double chips) {
-        this.chips -= chips;
+        dispenseChipUnits(Chips.toUnits(chips));
+    }
+
+    /** dispenses a given number of chip sub-units from the actor's total. */
+    public void dispenseChipUnits(long units) {
+        this.chipUnits -= units;
     }
 
     public double getChips() {
-        return chips;
+        return Chips.toChips(chipUnits);
+    }
+
+    public long getChipUnits() {
+        return chipUnits;
     }
 
     public void setChips(double chips) {
-        this.chips = chips;
+        this.chipUnits = Chips.toUnits(chips);
     }
 }
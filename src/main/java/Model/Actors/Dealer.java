@@ -1,5 +1,6 @@
 package Model.Actors;
 
+import Model.Actors.Strategies.Action;
 import Model.Actors.Strategies.DealerStrategy;
 import Model.Table.Positions.DealerPosition;
 
@@ -28,7 +29,7 @@ public class Dealer extends Actor {
     }
 
     /** executes the dealer's assigned strategy from within the dealer class. */
-    public String executeStrategy() {
+    public Action executeStrategy() {
         return getStrategy().executeStrategy(position.getHand());
     }
 
@@ -1,5 +1,6 @@
 package Model.Actors;
 
+import Model.Actors.Strategies.Action;
 import Model.Actors.Strategies.PlayerStrategy;
 import Model.Table.Hands.DealerHand;
 import Model.Table.Hands.PlayerHand;
@@ -12,11 +13,22 @@ public class Player extends Actor {
     PlayerPosition defaultPosition;
     PlayerStrategy strategy;
 
+    // the player's index in the table's list of players. Unregistered players have an id of -1
+    private int id = -1;
+
     public Player(double startingChips) {
         super(startingChips);
         this.strategy = new PlayerStrategy();
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public PlayerPosition getDefaultPosition() {
         return defaultPosition;
     }
@@ -27,7 +39,7 @@ public class Player extends Actor {
 
     /** given the player's hand and the dealer's hand, executes the player's assigned strategy from within the player
      * class. */
-    public String executeStrategy(PlayerHand playerHand, DealerHand dealerHand) {
+    public Action executeStrategy(PlayerHand playerHand, DealerHand dealerHand) {
         return getStrategy().executeStrategy(playerHand, dealerHand);
     }
 
@@ -0,0 +1,36 @@
+package Model.Actors.Strategies;
+
+import Model.Constants;
+
+public enum Action {
+
+    HIT(Constants.HIT),
+    STAND(Constants.STAND),
+    DOUBLE(Constants.DOUBLE),
+    SPLIT(Constants.SPLIT),
+    NO_SPLIT(Constants.NO_SPLIT),
+    INSURANCE(Constants.INSURANCE);
+
+    // the name of the action as displayed on, and entered at, the command line
+    private final String label;
+
+    Action(String label) {
+        this.label = label;
+    }
+
+    /** returns the action matching a command line input, ignoring case. Throws an IllegalArgumentException if the
+     * input does not name an action. */
+    public static Action fromInput(String input) {
+        for(Action action : values()) {
+            if(action.label.equalsIgnoreCase(input)) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("Unknown action: " + input);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
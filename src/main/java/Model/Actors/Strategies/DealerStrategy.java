@@ -6,14 +6,19 @@ import static Model.Constants.*;
 public class DealerStrategy {
 
     /** makes the dealer hit up to a specific hand value. Once this value is reached, the dealer stands. */
-    public String executeStrategy(DealerHand hand) {
-        // hit on soft 17
-        if(hand.getHandValue() == DEFAULT_DEALER_DRAW_VALUE && hand.hasAce()) {
-            return HIT;
-        } else if(hand.getHandValue() < DEFAULT_DEALER_DRAW_VALUE) {
-            return HIT;
+    public Action executeStrategy(DealerHand hand) {
+        if(hits(hand.getHandValue(), hand.isSoft())) {
+            return Action.HIT;
         } else {
-            return STAND;
+            return Action.STAND;
         }
     }
+
+    /** returns whether the dealer draws to a hand of the given value. By default, the dealer hits on soft 17. The rule
+     * is shared with the exact evaluator and the strategy generator so that all three play out the dealer's hand in
+     * the same way. */
+    public static boolean hits(int handValue, boolean soft) {
+        return handValue < DEFAULT_DEALER_DRAW_VALUE
+                || (handValue == DEFAULT_DEALER_DRAW_VALUE && soft && DEFAULT_DEALER_HITS_SOFT_17);
+    }
 }
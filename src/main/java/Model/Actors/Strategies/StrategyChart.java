@@ -0,0 +1,62 @@
+package Model.Actors.Strategies;
+
+import static Model.Constants.*;
+
+public final class StrategyChart {
+
+    // each table row holds one entry per dealer face-up card value, from 0 through to the ace's upper value
+    private static final int UPCARD_SLOTS = ACE_UPPER_VALUE + 1;
+
+    /** the default chart is generated once for the default number of decks and shared by every player strategy, since
+     * the tables are never modified after they are populated. */
+    public static final StrategyChart DEFAULT = StrategyGenerator.generate(DEFAULT_NUMBER_OF_DECKS);
+
+    // dense tables indexed by (player value, dealer face-up card value)
+    private final Action[] hardValuesActionTable;
+    private final Action[] softValuesActionTable;
+    private final Action[] splitActionTable;
+
+    private StrategyChart(Action[] hardValuesActionTable, Action[] softValuesActionTable, Action[] splitActionTable) {
+        this.hardValuesActionTable = hardValuesActionTable;
+        this.softValuesActionTable = softValuesActionTable;
+        this.splitActionTable = splitActionTable;
+    }
+
+    /** compiles per-upcard decisions into a chart's dense tables. Each argument is indexed by the dealer's face-up card
+     * value and then by the player's hard value, soft value or pair value respectively. */
+    static StrategyChart compile(Action[][] hard, Action[][] soft, Action[][] split) {
+        Action[] hardTable = new Action[(BLACKJACK_CONSTANT + 1) * UPCARD_SLOTS];
+        Action[] softTable = new Action[(BLACKJACK_CONSTANT + 1) * UPCARD_SLOTS];
+        Action[] splitTable = new Action[(ACE_UPPER_VALUE + 1) * UPCARD_SLOTS];
+        for(int dealerValue = 2; dealerValue <= ACE_UPPER_VALUE; dealerValue++) {
+            for(int playerValue = 0; playerValue <= BLACKJACK_CONSTANT; playerValue++) {
+                hardTable[index(playerValue, dealerValue)] = hard[dealerValue][playerValue];
+                softTable[index(playerValue, dealerValue)] = soft[dealerValue][playerValue];
+            }
+            for(int pairValue = 0; pairValue <= ACE_UPPER_VALUE; pairValue++) {
+                splitTable[index(pairValue, dealerValue)] = split[dealerValue][pairValue];
+            }
+        }
+        return new StrategyChart(hardTable, softTable, splitTable);
+    }
+
+    /** returns the table index for a given player value and dealer face-up card value. */
+    private static int index(int playerValue, int dealerValue) {
+        return playerValue * UPCARD_SLOTS + dealerValue;
+    }
+
+    /** returns the action from the hard-values table. */
+    public Action hardAction(int playerValue, int dealerValue) {
+        return hardValuesActionTable[index(playerValue, dealerValue)];
+    }
+
+    /** returns the action from the soft-values table. */
+    public Action softAction(int playerValue, int dealerValue) {
+        return softValuesActionTable[index(playerValue, dealerValue)];
+    }
+
+    /** returns the action from the splitting table for a pair of cards with the given value. */
+    public Action splitAction(int pairValue, int dealerValue) {
+        return splitActionTable[index(pairValue, dealerValue)];
+    }
+}
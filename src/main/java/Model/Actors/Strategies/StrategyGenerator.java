@@ -0,0 +1,209 @@
+package Model.Actors.Strategies;
+
+import java.util.stream.IntStream;
+import Model.Analysis.ExactEvaluator;
+import Model.Cards.Deck;
+import static Model.Constants.*;
+
+/** derives a basic strategy chart from the rules rather than hard-coding one. For each dealer face-up card, the
+ * dealer's final totals are computed exactly for the shoe less that card, after which the expected values of
+ * standing, hitting, doubling and splitting are found by dynamic programming over the player's hand values, from 21
+ * downwards. The dealer's draw rule comes from DealerStrategy.hits and the payouts from the constants, so changing
+ * either (or the number of decks) changes the chart without editing any code.
+ *
+ * As with any basic strategy, each decision depends only on the player's total and the dealer's card, not on the
+ * particular cards that make up the player's hand. Splits are played as two hands without resplitting, doubling
+ * after a split is allowed, and a two-card 21 after a split is paid as a blackjack, as the table settles it. */
+public final class StrategyGenerator {
+
+    private static final int MIN_CARD_VALUE = 2;
+
+    private StrategyGenerator() {}
+
+    /** generates the chart for a shoe of the given number of decks. */
+    public static StrategyChart generate(int decks) {
+        return generate(Deck.composition(decks));
+    }
+
+    /** generates the chart for a shoe of the given composition, indexed as per Deck.getComposition. Each upcard is
+     * solved independently and in parallel. */
+    public static StrategyChart generate(int[] composition) {
+        Action[][] hard = new Action[ACE_UPPER_VALUE + 1][];
+        Action[][] soft = new Action[ACE_UPPER_VALUE + 1][];
+        Action[][] split = new Action[ACE_UPPER_VALUE + 1][];
+        IntStream.rangeClosed(MIN_CARD_VALUE, ACE_UPPER_VALUE).parallel().forEach(upcard -> {
+            UpcardSolution solution = new UpcardSolution(composition, upcard);
+            hard[upcard] = solution.hardActions();
+            soft[upcard] = solution.softActions();
+            split[upcard] = solution.splitActions();
+        });
+        return StrategyChart.compile(hard, soft, split);
+    }
+
+    /** the expected value of every decision against a single dealer face-up card, indexed by the player's hand value. */
+    private static final class UpcardSolution {
+
+        private final double[] cardProbabilities = new double[ACE_UPPER_VALUE + 1];
+        private final double[] dealerProbabilities;
+        private final double[] stand = new double[BLACKJACK_CONSTANT + 1];
+        private final double naturalStand;
+        private final double[] hardHit = new double[BLACKJACK_CONSTANT + 1];
+        private final double[] softHit = new double[BLACKJACK_CONSTANT + 1];
+        private final double[] hardDouble = new double[BLACKJACK_CONSTANT + 1];
+        private final double[] softDouble = new double[BLACKJACK_CONSTANT + 1];
+
+        private UpcardSolution(int[] composition, int upcard) {
+            int remaining = -1;
+            for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+                remaining += composition[card];
+            }
+            for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+                cardProbabilities[card] = (double) (composition[card] - (card == upcard ? 1 : 0)) / remaining;
+            }
+            dealerProbabilities = new ExactEvaluator(composition).dealerProbabilities(upcard);
+            for(int value = 0; value <= BLACKJACK_CONSTANT; value++) {
+                stand[value] = standValue(value, DEFAULT_PAYOUT_RATIO);
+            }
+            naturalStand = standValue(BLACKJACK_CONSTANT,
+                    (double) DEFAULT_BLACKJACK_PAYOUT_DENOMINATOR / DEFAULT_BLACKJACK_PAYOUT_NUMERATOR);
+            // hard totals above 10 only lead to higher hard totals, soft totals only lead to higher soft totals or to
+            // hard totals above 11, and hard totals of 10 or below can lead to either
+            for(int value = BLACKJACK_CONSTANT; value > 10; value--) {
+                solveHard(value);
+            }
+            for(int value = BLACKJACK_CONSTANT; value > ACE_UPPER_VALUE; value--) {
+                solveSoft(value);
+            }
+            for(int value = 10; value >= MIN_CARD_VALUE; value--) {
+                solveHard(value);
+            }
+        }
+
+        /** returns the expected value of standing on a given value, for a given payout on a win. */
+        private double standValue(int value, double payout) {
+            double expectedValue = dealerProbabilities[ExactEvaluator.DEALER_BUST] * payout;
+            for(int total = DEFAULT_DEALER_DRAW_VALUE; total <= BLACKJACK_CONSTANT; total++) {
+                double probability = dealerProbabilities[total - DEFAULT_DEALER_DRAW_VALUE];
+                if(value > total) {
+                    expectedValue += probability * payout;
+                } else if(value < total) {
+                    expectedValue -= probability;
+                }
+            }
+            return expectedValue;
+        }
+
+        /** computes the expected values of hitting and doubling on a hard total. */
+        private void solveHard(int value) {
+            double hit = 0;
+            double doubleDown = 0;
+            for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+                double probability = cardProbabilities[card];
+                if(card == ACE_UPPER_VALUE && value + ACE_UPPER_VALUE <= BLACKJACK_CONSTANT) {
+                    int next = value + ACE_UPPER_VALUE;
+                    hit += probability * bestSoft(next);
+                    doubleDown += probability * stand[next];
+                } else {
+                    int next = value + (card == ACE_UPPER_VALUE ? ACE_LOWER_VALUE : card);
+                    hit += probability * (next > BLACKJACK_CONSTANT ? -1 : bestHard(next));
+                    doubleDown += probability * (next > BLACKJACK_CONSTANT ? -1 : stand[next]);
+                }
+            }
+            hardHit[value] = hit;
+            hardDouble[value] = 2 * doubleDown;
+        }
+
+        /** computes the expected values of hitting and doubling on a soft total. Soft hands cannot bust on one card,
+         * they revert to a hard total instead. */
+        private void solveSoft(int value) {
+            double hit = 0;
+            double doubleDown = 0;
+            for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+                double probability = cardProbabilities[card];
+                int next = value + (card == ACE_UPPER_VALUE ? ACE_LOWER_VALUE : card);
+                if(next <= BLACKJACK_CONSTANT) {
+                    hit += probability * bestSoft(next);
+                    doubleDown += probability * stand[next];
+                } else {
+                    int hardNext = next - ACE_UPPER_VALUE + ACE_LOWER_VALUE;
+                    hit += probability * bestHard(hardNext);
+                    doubleDown += probability * stand[hardNext];
+                }
+            }
+            softHit[value] = hit;
+            softDouble[value] = 2 * doubleDown;
+        }
+
+        /** returns the expected value of a hard total once more cards have been drawn, when doubling is no longer
+         * possible. */
+        private double bestHard(int value) {
+            return Math.max(stand[value], hardHit[value]);
+        }
+
+        /** returns the expected value of a soft total once more cards have been drawn. */
+        private double bestSoft(int value) {
+            return Math.max(stand[value], softHit[value]);
+        }
+
+        /** returns the expected value of the best action on a two-card hand. */
+        private double bestTwoCard(int first, int second) {
+            if(first == ACE_UPPER_VALUE || second == ACE_UPPER_VALUE) {
+                int value = first + second - (first == second ? ACE_UPPER_VALUE - ACE_LOWER_VALUE : 0);
+                if(value == BLACKJACK_CONSTANT) {
+                    return naturalStand;
+                }
+                return Math.max(stand[value], Math.max(softHit[value], softDouble[value]));
+            }
+            int value = first + second;
+            return Math.max(stand[value], Math.max(hardHit[value], hardDouble[value]));
+        }
+
+        /** returns the expected value of splitting a pair, played as two hands that each draw a second card. */
+        private double splitValue(int pairValue) {
+            double handValue = 0;
+            for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+                handValue += cardProbabilities[card] * bestTwoCard(pairValue, card);
+            }
+            return 2 * handValue;
+        }
+
+        /** returns the best action for each hard total. */
+        private Action[] hardActions() {
+            Action[] actions = new Action[BLACKJACK_CONSTANT + 1];
+            for(int value = MIN_CARD_VALUE; value <= BLACKJACK_CONSTANT; value++) {
+                actions[value] = bestAction(stand[value], hardHit[value], hardDouble[value]);
+            }
+            return actions;
+        }
+
+        /** returns the best action for each soft total of a two-card hand (an ace and another card). A pair of aces
+         * makes a soft 12 when it can no longer be split. */
+        private Action[] softActions() {
+            Action[] actions = new Action[BLACKJACK_CONSTANT + 1];
+            for(int value = ACE_UPPER_VALUE + ACE_LOWER_VALUE; value < BLACKJACK_CONSTANT; value++) {
+                actions[value] = bestAction(stand[value], softHit[value], softDouble[value]);
+            }
+            actions[BLACKJACK_CONSTANT] = Action.STAND;
+            return actions;
+        }
+
+        /** returns whether to split each pair. A pair that is not split is played from the hard (or for aces, soft)
+         * total that it makes. */
+        private Action[] splitActions() {
+            Action[] actions = new Action[ACE_UPPER_VALUE + 1];
+            for(int pairValue = MIN_CARD_VALUE; pairValue <= ACE_UPPER_VALUE; pairValue++) {
+                boolean split = splitValue(pairValue) > bestTwoCard(pairValue, pairValue);
+                actions[pairValue] = split ? Action.SPLIT : Action.NO_SPLIT;
+            }
+            return actions;
+        }
+
+        /** returns the action with the highest expected value. Ties favour the more conservative action. */
+        private static Action bestAction(double stand, double hit, double doubleDown) {
+            if(doubleDown > stand && doubleDown > hit) {
+                return Action.DOUBLE;
+            }
+            return hit > stand ? Action.HIT : Action.STAND;
+        }
+    }
+}
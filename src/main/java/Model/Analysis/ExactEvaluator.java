@@ -0,0 +1,361 @@
+package Model.Analysis;
+
+import java.util.HashMap;
+import Exceptions.DeckCountException;
+import Model.Actors.Strategies.DealerStrategy;
+import Model.Cards.Deck;
+import static Model.Constants.*;
+
+/** computes exact expected values for a shoe of known composition, rather than estimating them by simulation. Every
+ * probability is conditioned on the cards actually remaining in the shoe, so each card drawn by the player changes
+ * the odds of the dealer's hand. Results are memoised by the remaining composition, which means that hands reaching
+ * the same composition by different routes (e.g. 2, 3 then 5 and 2, 5 then 3) share their dealer probabilities. The
+ * dealer's intermediate hands are memoised in the same way, so that once the player's cards and the dealer's draws
+ * leave the same composition and the same dealer hand, the rest of the dealer's draws are only played out once.
+ *
+ * The evaluator assumes the rules that the table settles by:
+ * the dealer draws by DealerStrategy.hits (hitting soft 17 by default) and does not check for blackjack before the players act;
+ * hands are compared by value, so any two-card 21 (including one made after a split) pays 3:2 when it wins and any
+ * 21 pushes against a dealer 21; players may double on any two cards, including after a split;
+ * a split is played as two independent hands each starting from one of the pair, without resplitting. The second
+ * split hand is assumed to see the same composition as the first. Insurance is not considered. */
+public class ExactEvaluator {
+
+    // dealer outcome indexes. Final totals from the dealer's draw value up to 21 are indexed from 0, followed by bust
+    public static final int DEALER_BUST = BLACKJACK_CONSTANT - DEFAULT_DEALER_DRAW_VALUE + 1;
+    public static final int DEALER_OUTCOMES = DEALER_BUST + 1;
+
+    private static final int MIN_CARD_VALUE = 2;
+    private static final int DEALER_STATE_BITS = 6; // room for the dealer's hard value and whether it holds an ace
+
+    private final int[] counts; // the cards remaining, indexed by card value with aces at their upper value
+    private int remaining;
+    private final long[] weights; // the place value of each card value within the composition key
+    private long key; // a mixed-radix encoding of the counts, unique to each composition reachable from the shoe
+
+    // memoised results, keyed by the composition remaining after the dealer's and the player's cards are drawn
+    private final DealerCache dealerCache = new DealerCache();
+    private final HashMap<HitState, Double> hitCache = new HashMap<>();
+
+    private record HitState(long composition, int upcard, int hardValue, boolean hasAce) {}
+
+    /** an open-addressing hash table from the dealer's states to their distributions. A shoe reaches hundreds of
+     * thousands of dealer states, so the keys are held as primitives rather than boxed into a HashMap. */
+    private static final class DealerCache {
+
+        private static final int INITIAL_CAPACITY = 1 << 12;
+        private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+        private long[] states = new long[INITIAL_CAPACITY]; // each state plus one, so that zero marks an empty slot
+        private double[][] distributions = new double[INITIAL_CAPACITY][];
+        private int size;
+
+        private double[] get(long state) {
+            int mask = states.length - 1;
+            for(int slot = slotOf(state, mask); states[slot] != 0; slot = (slot + 1) & mask) {
+                if(states[slot] == state + 1) {
+                    return distributions[slot];
+                }
+            }
+            return null;
+        }
+
+        private void put(long state, double[] distribution) {
+            // the table is kept at most half full
+            if(2 * (size + 1) > states.length) {
+                resize();
+            }
+            insert(state + 1, distribution);
+            size++;
+        }
+
+        private void insert(long entry, double[] distribution) {
+            int mask = states.length - 1;
+            int slot = slotOf(entry - 1, mask);
+            while(states[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            states[slot] = entry;
+            distributions[slot] = distribution;
+        }
+
+        private void resize() {
+            long[] oldStates = states;
+            double[][] oldDistributions = distributions;
+            states = new long[oldStates.length * 2];
+            distributions = new double[oldStates.length * 2][];
+            for(int slot = 0; slot < oldStates.length; slot++) {
+                if(oldStates[slot] != 0) {
+                    insert(oldStates[slot], oldDistributions[slot]);
+                }
+            }
+        }
+
+        private static int slotOf(long state, int mask) {
+            return (int) ((state * HASH_MULTIPLIER) >>> 32) & mask;
+        }
+    }
+
+    /** constructor with the number of cards remaining for each card value, indexed as per Deck.getComposition. */
+    public ExactEvaluator(int[] composition) {
+        counts = new int[ACE_UPPER_VALUE + 1];
+        weights = new long[ACE_UPPER_VALUE + 1];
+        long weight = 1;
+        try {
+            for(int value = MIN_CARD_VALUE; value <= ACE_UPPER_VALUE; value++) {
+                counts[value] = composition[value];
+                remaining += counts[value];
+                weights[value] = weight;
+                key += counts[value] * weight;
+                weight = Math.multiplyExact(weight, counts[value] + 1);
+            }
+            // the dealer's hand is packed below the composition key
+            Math.multiplyExact(weight, 1L << DEALER_STATE_BITS);
+        } catch (ArithmeticException e) {
+            throw new DeckCountException("The shoe is too large to be evaluated exactly.");
+        }
+    }
+
+    /** returns an evaluator for the cards yet to be dealt from the given deck. */
+    public static ExactEvaluator of(Deck deck) {
+        return new ExactEvaluator(deck.getComposition());
+    }
+
+    /** returns the probability of each of the dealer's final totals for a given upcard, indexed from the dealer's draw
+     * value up to 21 and then DEALER_BUST. */
+    public double[] dealerProbabilities(int upcard) {
+        requireCards(upcard);
+        draw(upcard);
+        double[] probabilities = dealerDistribution(upcard).clone();
+        replace(upcard);
+        return probabilities;
+    }
+
+    /** returns the expected value of each action on an opening hand of the two given card values against the dealer's
+     * upcard. Card values follow Card.getValue, with aces at their upper value. */
+    public ExpectedValues evaluate(int first, int second, int upcard) {
+        requireCards(upcard, first, second);
+        draw(upcard);
+        draw(first);
+        draw(second);
+        int hardValue = hardValueOf(first) + hardValueOf(second);
+        boolean hasAce = first == ACE_UPPER_VALUE || second == ACE_UPPER_VALUE;
+        int handValue = handValue(hardValue, hasAce);
+        double stand = standValue(handValue, handValue == BLACKJACK_CONSTANT, upcard);
+        double hit = hitValue(hardValue, hasAce, upcard);
+        double doubleDown = doubleValue(hardValue, hasAce, upcard);
+        double split = first == second ? 2 * splitHandValue(first, upcard) : Double.NaN;
+        replace(second);
+        replace(first);
+        replace(upcard);
+        return new ExpectedValues(stand, hit, doubleDown, split);
+    }
+
+    /** returns the expected value of a round per unit bet when every opening hand is played by its best action. The
+     * upcards are evaluated in turn by this evaluator rather than in parallel by copies of it, since the dealer's
+     * intermediate hands do not depend on the upcard they started from (a 2 then a 3 reaches the same state as a 3
+     * then a 2) and so are shared between upcards. */
+    public double expectedValue() {
+        double total = 0;
+        for(int upcard = MIN_CARD_VALUE; upcard <= ACE_UPPER_VALUE; upcard++) {
+            total += upcardValue(upcard);
+        }
+        return total;
+    }
+
+    /** returns the contribution of the given upcard to the expected value of a round. */
+    private double upcardValue(int upcard) {
+        double total = 0;
+        for(int first = MIN_CARD_VALUE; first <= ACE_UPPER_VALUE; first++) {
+            for(int second = first; second <= ACE_UPPER_VALUE; second++) {
+                double probability = dealProbability(upcard, first, second);
+                if(probability > 0) {
+                    total += probability * evaluate(first, second, upcard).getBest();
+                }
+            }
+        }
+        return total;
+    }
+
+    /** returns the probability of being dealt the given upcard and (unordered) pair of player cards. */
+    private double dealProbability(int upcard, int first, int second) {
+        double probability = (double) counts[upcard] / remaining;
+        probability *= (double) (counts[first] - (first == upcard ? 1 : 0)) / (remaining - 1);
+        probability *= (double) (counts[second] - (second == upcard ? 1 : 0) - (second == first ? 1 : 0))
+                / (remaining - 2);
+        // the two player cards can arrive in either order
+        return first == second ? probability : 2 * probability;
+    }
+
+    /** returns the dealer's distribution for the current composition. The upcard must already have been drawn. */
+    private double[] dealerDistribution(int upcard) {
+        return drawDealer(hardValueOf(upcard), upcard == ACE_UPPER_VALUE);
+    }
+
+    /** returns the distribution of the dealer's final totals from a hand that the dealer must draw to, given the
+     * current composition. Every draw that leaves the dealer standing adds to its total directly, and every other draw
+     * continues from the distribution of the resulting hand, which is memoised by the composition and the dealer's
+     * hard value and ace. */
+    private double[] drawDealer(int hardValue, boolean hasAce) {
+        long state = key << DEALER_STATE_BITS | (long) hardValue << 1 | (hasAce ? 1 : 0);
+        double[] probabilities = dealerCache.get(state);
+        if(probabilities != null) {
+            return probabilities;
+        }
+        probabilities = new double[DEALER_OUTCOMES];
+        int cardsRemaining = remaining;
+        for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+            if(counts[card] > 0) {
+                double probability = (double) counts[card] / cardsRemaining;
+                int nextHardValue = hardValue + hardValueOf(card);
+                boolean nextHasAce = hasAce || card == ACE_UPPER_VALUE;
+                int handValue = handValue(nextHardValue, nextHasAce);
+                if(DealerStrategy.hits(handValue, handValue != nextHardValue)) {
+                    draw(card);
+                    double[] next = drawDealer(nextHardValue, nextHasAce);
+                    replace(card);
+                    for(int outcome = 0; outcome < DEALER_OUTCOMES; outcome++) {
+                        probabilities[outcome] += probability * next[outcome];
+                    }
+                } else {
+                    probabilities[handValue > BLACKJACK_CONSTANT ? DEALER_BUST
+                            : handValue - DEFAULT_DEALER_DRAW_VALUE] += probability;
+                }
+            }
+        }
+        dealerCache.put(state, probabilities);
+        return probabilities;
+    }
+
+    /** returns the expected value of standing on a hand of the given value. Naturals are paid at the blackjack ratio. */
+    private double standValue(int handValue, boolean natural, int upcard) {
+        double[] dealer = dealerDistribution(upcard);
+        double win = natural ? (double) DEFAULT_BLACKJACK_PAYOUT_DENOMINATOR / DEFAULT_BLACKJACK_PAYOUT_NUMERATOR
+                : DEFAULT_PAYOUT_RATIO;
+        double value = dealer[DEALER_BUST] * win;
+        for(int total = DEFAULT_DEALER_DRAW_VALUE; total <= BLACKJACK_CONSTANT; total++) {
+            double probability = dealer[total - DEFAULT_DEALER_DRAW_VALUE];
+            if(handValue > total) {
+                value += probability * win;
+            } else if(handValue < total) {
+                value -= probability;
+            }
+        }
+        return value;
+    }
+
+    /** returns the expected value of hitting, after which the better of standing and hitting again is taken. */
+    private double hitValue(int hardValue, boolean hasAce, int upcard) {
+        HitState state = new HitState(key, upcard, hardValue, hasAce);
+        Double cached = hitCache.get(state);
+        if(cached != null) {
+            return cached;
+        }
+        double value = 0;
+        int cardsRemaining = remaining;
+        for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+            if(counts[card] > 0) {
+                double probability = (double) counts[card] / cardsRemaining;
+                int nextHardValue = hardValue + hardValueOf(card);
+                if(nextHardValue > BLACKJACK_CONSTANT) {
+                    value -= probability;
+                } else {
+                    boolean nextHasAce = hasAce || card == ACE_UPPER_VALUE;
+                    draw(card);
+                    value += probability * Math.max(
+                            standValue(handValue(nextHardValue, nextHasAce), false, upcard),
+                            hitValue(nextHardValue, nextHasAce, upcard));
+                    replace(card);
+                }
+            }
+        }
+        hitCache.put(state, value);
+        return value;
+    }
+
+    /** returns the expected value of doubling, which takes exactly one more card on twice the bet. */
+    private double doubleValue(int hardValue, boolean hasAce, int upcard) {
+        double value = 0;
+        int cardsRemaining = remaining;
+        for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+            if(counts[card] > 0) {
+                double probability = (double) counts[card] / cardsRemaining;
+                int nextHardValue = hardValue + hardValueOf(card);
+                if(nextHardValue > BLACKJACK_CONSTANT) {
+                    value -= probability;
+                } else {
+                    draw(card);
+                    value += probability * standValue(handValue(nextHardValue, hasAce || card == ACE_UPPER_VALUE),
+                            false, upcard);
+                    replace(card);
+                }
+            }
+        }
+        return 2 * value;
+    }
+
+    /** returns the expected value of one hand after a split, which starts from a single card of the pair and is dealt
+     * a second card before being played by its best action. Both cards of the pair must already have been drawn. */
+    private double splitHandValue(int pairValue, int upcard) {
+        double value = 0;
+        int cardsRemaining = remaining;
+        for(int card = MIN_CARD_VALUE; card <= ACE_UPPER_VALUE; card++) {
+            if(counts[card] > 0) {
+                double probability = (double) counts[card] / cardsRemaining;
+                int hardValue = hardValueOf(pairValue) + hardValueOf(card);
+                boolean hasAce = pairValue == ACE_UPPER_VALUE || card == ACE_UPPER_VALUE;
+                int handValue = handValue(hardValue, hasAce);
+                draw(card);
+                double best = Math.max(standValue(handValue, handValue == BLACKJACK_CONSTANT, upcard),
+                        Math.max(hitValue(hardValue, hasAce, upcard), doubleValue(hardValue, hasAce, upcard)));
+                value += probability * best;
+                replace(card);
+            }
+        }
+        return value;
+    }
+
+    /** validates that the shoe holds every one of the given cards. */
+    private void requireCards(int... values) {
+        for(int i = 0; i < values.length; i++) {
+            int value = values[i];
+            if(value < MIN_CARD_VALUE || value > ACE_UPPER_VALUE) {
+                throw new IllegalArgumentException("Invalid card value: " + value);
+            }
+            int required = 0;
+            for(int j = 0; j <= i; j++) {
+                if(values[j] == value) {
+                    required++;
+                }
+            }
+            if(counts[value] < required) {
+                throw new IllegalArgumentException("Not enough cards of value " + value + " remain in the shoe.");
+            }
+        }
+    }
+
+    /** private helper method. Removes a card from the composition. */
+    private void draw(int value) {
+        counts[value]--;
+        remaining--;
+        key -= weights[value];
+    }
+
+    /** private helper method. Returns a card to the composition. */
+    private void replace(int value) {
+        counts[value]++;
+        remaining++;
+        key += weights[value];
+    }
+
+    /** returns the value a card adds to a hand's hard value, counting aces at their lower value. */
+    private static int hardValueOf(int value) {
+        return value == ACE_UPPER_VALUE ? ACE_LOWER_VALUE : value;
+    }
+
+    /** returns the best value of a hand, counting one ace at its upper value wherever that does not bust the hand. */
+    private static int handValue(int hardValue, boolean hasAce) {
+        int softValue = hardValue + ACE_UPPER_VALUE - ACE_LOWER_VALUE;
+        return hasAce && softValue <= BLACKJACK_CONSTANT ? softValue : hardValue;
+    }
+}
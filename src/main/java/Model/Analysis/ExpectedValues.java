@@ -0,0 +1,64 @@
+package Model.Analysis;
+
+import Model.Actors.Strategies.Action;
+
+public final class ExpectedValues {
+
+    /** the expected value of each action available on a player's opening hand, as a multiple of the original bet.
+     * Splitting is only available on pairs, so its value is NaN for every other hand. */
+    private final double stand;
+    private final double hit;
+    private final double doubleDown;
+    private final double split;
+
+    public ExpectedValues(double stand, double hit, double doubleDown, double split) {
+        this.stand = stand;
+        this.hit = hit;
+        this.doubleDown = doubleDown;
+        this.split = split;
+    }
+
+    /** returns the action with the highest expected value. */
+    public Action getBestAction() {
+        Action action = Action.STAND;
+        double best = stand;
+        if(hit > best) {
+            action = Action.HIT;
+            best = hit;
+        }
+        if(doubleDown > best) {
+            action = Action.DOUBLE;
+            best = doubleDown;
+        }
+        if(split > best) {
+            action = Action.SPLIT;
+        }
+        return action;
+    }
+
+    /** returns the expected value of the best action. */
+    public double getBest() {
+        return switch (getBestAction()) {
+            case HIT -> hit;
+            case DOUBLE -> doubleDown;
+            case SPLIT -> split;
+            default -> stand;
+        };
+    }
+
+    public double getStand() {
+        return stand;
+    }
+
+    public double getHit() {
+        return hit;
+    }
+
+    public double getDoubleDown() {
+        return doubleDown;
+    }
+
+    public double getSplit() {
+        return split;
+    }
+}
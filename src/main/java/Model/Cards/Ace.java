@@ -1,8 +0,0 @@
-package Model.Cards;
-
-public class Ace extends Card {
-
-    public Ace(String name, int value) {
-        super(name, value);
-    }
-}
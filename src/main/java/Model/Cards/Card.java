@@ -1,13 +1,59 @@
 package Model.Cards;
 
-public class Card {
+import static Model.Constants.*;
 
-    String name;
-    int value;
+public final class Card {
 
-    public Card(String name, int value) {
-        this.name = name;
-        this.value = value;
+    /* the registry of the 52 canonical cards, indexed by their code. Cards are immutable, so every deck and every table
+     * shares these instances rather than creating a new card for each copy in the shoe. */
+    private static final String[] RANK_NAMES = {"Ace", "Two", "Three", "Four", "Five", "Six", "Seven", "Eight", "Nine",
+            "Ten", "Jack", "Queen", "King"};
+    private static final String[] SUIT_NAMES = {"Hearts", "Diamonds", "Clubs", "Spades"};
+    private static final Card[] REGISTRY = createRegistry();
+
+    private final int code;
+    private final int rank;
+    private final int suit;
+    private final int value;
+    private final String name;
+
+    private Card(int rank, int suit) {
+        this.code = encode(rank, suit);
+        this.rank = rank;
+        this.suit = suit;
+        this.value = rank == ACE_RANK ? ACE_UPPER_VALUE : Math.min(rank, 10);
+        this.name = RANK_NAMES[rank - 1] + "Of" + SUIT_NAMES[suit];
+    }
+
+    /** creates one instance of each of the 52 distinct cards. By default, the ace is mapped to its higher value. */
+    private static Card[] createRegistry() {
+        Card[] registry = new Card[NUMBER_OF_CARDS_PER_DECK];
+        for(int suit = 0; suit < NUMBER_OF_SUITS; suit++) {
+            for(int rank = ACE_RANK; rank <= KING_RANK; rank++) {
+                registry[encode(rank, suit)] = new Card(rank, suit);
+            }
+        }
+        return registry;
+    }
+
+    /** encodes a rank (Ace = 1 through to King = 13) and a suit (0 - 3) as a single code between 0 and 51. */
+    public static int encode(int rank, int suit) {
+        return suit * NUMBER_OF_CARDS_PER_SUIT + rank - 1;
+    }
+
+    /** returns the canonical card for a given rank and suit. */
+    public static Card of(int rank, int suit) {
+        return REGISTRY[encode(rank, suit)];
+    }
+
+    /** returns the canonical card for a given code. */
+    public static Card fromCode(int code) {
+        return REGISTRY[code];
+    }
+
+    /** returns whether the card is an ace. */
+    public boolean isAce() {
+        return rank == ACE_RANK;
     }
 
     @Override
@@ -19,15 +65,19 @@ public class Card {
         return name;
     }
 
-    public void setName(String name) {
-        this.name = name;
+    public int getCode() {
+        return code;
     }
 
-    public int getValue() {
-        return value;
+    public int getRank() {
+        return rank;
     }
 
-    public void setValue(int value) {
-        this.value = value;
+    public int getSuit() {
+        return suit;
+    }
+
+    public int getValue() {
+        return value;
     }
 }
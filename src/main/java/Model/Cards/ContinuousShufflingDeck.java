@@ -0,0 +1,41 @@
+package Model.Cards;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/** a continuous shuffling machine (CSM). Rather than dealing the shoe down to a cut card and then rebuilding it, the
+ * table returns its discards to the machine at the end of every round, so play is never interrupted by a reshuffle.
+ * The cards in the machine are kept as an unordered reservoir: each deal draws one of them uniformly at random (as a
+ * lazy deck does), which is equivalent to a machine that reinserts every discard at a random position. Dealing and
+ * returning a card are both constant time, so a round costs a handful of array writes rather than a full reshuffle. */
+public class ContinuousShufflingDeck extends LazyDeck {
+
+    public ContinuousShufflingDeck(int copies) {
+        this(copies, new SplittableRandom());
+    }
+
+    /** constructor with a random number generator. Passing a seeded generator makes every deal reproducible. */
+    public ContinuousShufflingDeck(int copies, RandomGenerator random) {
+        super(copies, random);
+    }
+
+    /** returns a discarded card to the machine, where it can be dealt again straight away. */
+    @Override
+    public void discard(Card card) {
+        if(cursor < shoe.length) {
+            shoe[cursor++] = (byte) card.getCode();
+        }
+    }
+
+    /** the machine is topped up with the discards every round, so it never needs rebuilding. */
+    @Override
+    public boolean needsNewDeck() {
+        return false;
+    }
+
+    /** returns every card to the machine. */
+    @Override
+    public void createNewDeck() {
+        populate();
+    }
+}
@@ -1,25 +1,38 @@
 package Model.Cards;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 import static Model.Constants.*;
 import Exceptions.DeckCountException;
+import Model.Cards.Shuffles.FisherYatesShuffler;
+import Model.Cards.Shuffles.Shuffler;
+import Model.Events.ShuffleEvent;
 
 public class Deck {
 
     private int copies; // the number of standard decks used
-    private final ArrayList<String> suits;
-    private final Map<String, Integer> cardValueMap;
-    private ArrayList<Card> deck;
-    private Random random;
+    protected byte[] shoe; // the card codes of every copy. Cards below the cursor are yet to be dealt
+    protected int cursor;
+    protected final RandomGenerator random;
+    private final Shuffler shuffler;
 
     public Deck(int copies) {
-        this.suits = new ArrayList<>();
-        this.cardValueMap = new HashMap<>();
-        this.deck = new ArrayList<>();
-        this.random = new Random();
+        this(copies, new SplittableRandom());
+    }
+
+    /** constructor with a random number generator. Passing a seeded generator makes the order of every shoe
+     * reproducible. */
+    public Deck(int copies, RandomGenerator random) {
+        this(copies, random, new FisherYatesShuffler());
+    }
+
+    /** constructor with a random number generator and a shuffler, for decks shuffled by one of the casino shuffle
+     * models rather than uniformly. Each deck needs a shuffler of its own. */
+    public Deck(int copies, RandomGenerator random, Shuffler shuffler) {
+        this.random = random;
+        this.shuffler = shuffler;
         processDeckCount(copies);
-        createSuits();
-        mapCardValues(cardValueMap);
+        this.shoe = new byte[this.copies * NUMBER_OF_CARDS_PER_DECK];
         populate();
         shuffle();
     }
@@ -33,101 +46,88 @@ public class Deck {
         }
     }
 
-    /** populates the suits list with each of the major suits. Used to streamline card creation process. */
-    private void createSuits() {
-        suits.add("Hearts");
-        suits.add("Diamonds");
-        suits.add("Clubs");
-        suits.add("Spades");
-    }
-
-    /** maps cards to their default values. By default, the ace is mapped to its higher value. */
-    private void mapCardValues(Map<String, Integer>  cardValuesMap) {
-        for(String suit : suits) {
-            cardValuesMap.put("TwoOf" + suit, 2);
-            cardValuesMap.put("ThreeOf" + suit, 3);
-            cardValuesMap.put("FourOf" + suit, 4);
-            cardValuesMap.put("FiveOf" + suit, 5);
-            cardValuesMap.put("SixOf" + suit, 6);
-            cardValuesMap.put("SevenOf" + suit, 7);
-            cardValuesMap.put("EightOf" + suit, 8);
-            cardValuesMap.put("NineOf" + suit, 9);
-            cardValuesMap.put("TenOf" + suit, 10);
-            cardValuesMap.put("JackOf" + suit, 10);
-            cardValuesMap.put("QueenOf" + suit, 10);
-            cardValuesMap.put("KingOf" + suit, 10);
-            cardValuesMap.put("AceOf" + suit, ACE_UPPER_VALUE);
+    /** populates the shoe with the codes of each copy's cards. Only required once since dealing never removes a card
+     * from the shoe, it simply moves the cursor past it. */
+    protected final void populate() {
+        for(int i = 0; i < shoe.length; i++) {
+            shoe[i] = (byte) (i % NUMBER_OF_CARDS_PER_DECK);
         }
+        cursor = shoe.length;
     }
 
-    /** populates the deck with cards from the map. */
-    private void populate() {
-        for (int i = 0; i < this.copies; i++) {
-            for (Map.Entry<String, Integer> pair : cardValueMap.entrySet()) {
-                Card newCard;
-                if (pair.getKey().contains("Ace")) {
-                    newCard = new Ace(pair.getKey(), pair.getValue());
-                } else {
-                    newCard = new Card(pair.getKey(), pair.getValue());
-                }
-                deck.add(newCard);
-            }
-        }
-    }
-
-    /** shuffles the deck. */
+    /** shuffles the deck. Called from the constructor, so it uses the shuffler directly rather than the overridable
+     * shuffle method. */
     private void shuffle() {
-        simpleShuffle();
-    }
-
-    /** uses a modified version of the Fisher-Yates shuffling algorithm. Fisher-Yates involves iterating over a set of
-     * integers, and for each integer, selecting a random index in the iteration range, and swapping it with the
-     * current integer. Essentially, this method performs Fisher-Yates but for each of the decks one by one, maintaining
-     * their respective boundaries. This is how Blackjack decks are designed to be shuffled, since it minimizes the
-     * chance of duplicate cards being dealt in a single hand. */
-    private void compoundShuffle() {
-        for(int i = this.copies; i > 0; i--) {
-            for(int j = NUMBER_OF_CARDS_PER_DECK; j > 0; j--) {
-                int upper = (i * NUMBER_OF_CARDS_PER_DECK) - 1;
-                int lower = ((i - 1) * NUMBER_OF_CARDS_PER_DECK);
-                int rand = random.nextInt(lower, upper);
-                Collections.swap(deck, rand, (i * j) - 1);
-            }
-        }
+        shuffler.shuffle(shoe, random);
     }
 
-    /** uses the Fisher-Yates shuffling algorithm for the whole deck stack. */
-    private void simpleShuffle() {
-        for (int i = 0; i < this.copies * NUMBER_OF_CARDS_PER_DECK; i++) {
-            int lower = 0;
-            int upper = this.copies * NUMBER_OF_CARDS_PER_DECK;
-            int rand = random.nextInt(lower, upper);
-            Collections.swap(deck, rand, i);
-        }
+    /** shuffles a buffer of card codes with the deck's shuffler and random number generator. */
+    protected void shuffle(byte[] cards) {
+        shuffler.shuffle(cards, random);
     }
 
     /** deals a card from the deck. */
     public Card deal() {
-        if(!deck.isEmpty()) {
-            return deck.removeLast();
+        if(cursor > 0) {
+            return Card.fromCode(shoe[--cursor]);
         }
         return null;
     }
 
     /** returns the size of the deck. */
     public int size() {
-        return deck.size();
+        return cursor;
     }
 
-    /** clears the stack and creates a fresh deck instance. */
+    /** returns whether the deck has been dealt past its cut card and should be rebuilt before the next round. */
+    public boolean needsNewDeck() {
+        return cursor < NEW_DECK_THRESHOLD;
+    }
+
+    /** returns a card from the table once a round is over. Dealt cards only return to a standard deck when it is
+     * rebuilt, so this does nothing by default. */
+    public void discard(Card card) {}
+
+    /** returns every dealt card to the shoe and reshuffles it in place. */
     public void createNewDeck() {
-        deck.clear();
-        populate();
+        ShuffleEvent event = new ShuffleEvent();
+        event.begin();
+        event.cardsRemaining = cursor;
+        cursor = shoe.length;
         shuffle();
+        if(event.shouldCommit()) {
+            event.shoeSize = shoe.length;
+            event.commit();
+        }
+    }
+
+    /** returns the number of cards of each card value in a full shoe of the given number of copies, indexed as per
+     * getComposition, without building the shoe. */
+    public static int[] composition(int copies) {
+        int[] composition = new int[ACE_UPPER_VALUE + 1];
+        for(int code = 0; code < NUMBER_OF_CARDS_PER_DECK; code++) {
+            composition[Card.fromCode(code).getValue()] += copies;
+        }
+        return composition;
+    }
+
+    /** returns the number of cards yet to be dealt for each card value, indexed by value with aces at their upper
+     * value. */
+    public int[] getComposition() {
+        int[] composition = new int[ACE_UPPER_VALUE + 1];
+        for(int i = 0; i < cursor; i++) {
+            composition[Card.fromCode(shoe[i]).getValue()]++;
+        }
+        return composition;
     }
 
     /// testing methods ///
+    /** returns the cards yet to be dealt, with the next card to be dealt at the end of the list. */
     public ArrayList<Card> getDeck() {
+        ArrayList<Card> deck = new ArrayList<>(cursor);
+        for(int i = 0; i < cursor; i++) {
+            deck.add(Card.fromCode(shoe[i]));
+        }
         return deck;
     }
 }
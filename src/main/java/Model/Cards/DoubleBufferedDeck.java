@@ -0,0 +1,72 @@
+package Model.Cards;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+import Model.Cards.Shuffles.Shuffler;
+import Model.Events.ShuffleEvent;
+
+/** a deck that prepares its next shoe in the background. While the current shoe is being dealt, a spare buffer is
+ * filled and shuffled on a virtual thread, so that replacing the shoe at the cut card is a swap of two buffers
+ * rather than a full reshuffle in the middle of the round loop. The class is final, since the constructors start the
+ * first preparation, which would otherwise run on a subclass that has not finished construction. */
+public final class DoubleBufferedDeck extends Deck {
+
+    // each preparation runs on its own virtual thread, so a waiting or shuffling deck never holds a platform thread
+    private static final Executor PREPARATION_EXECUTOR = task -> Thread.ofVirtual().name("shoe-preparation")
+            .start(task);
+
+    private byte[] spare; // the next shoe. Owned by the preparation task until that task completes
+    private CompletableFuture<Void> preparation;
+
+    public DoubleBufferedDeck(int copies) {
+        this(copies, new SplittableRandom());
+    }
+
+    /** constructor with a random number generator. Only one preparation runs at a time and the deck never shuffles
+     * on the dealing thread, so the generator is never shared. Seeded decks deal the same shoes as a plain deck built
+     * from the same seed. */
+    public DoubleBufferedDeck(int copies, RandomGenerator random) {
+        super(copies, random);
+        spare = new byte[shoe.length];
+        prepareSpare();
+    }
+
+    /** constructor with a random number generator and a shuffler. */
+    public DoubleBufferedDeck(int copies, RandomGenerator random, Shuffler shuffler) {
+        super(copies, random, shuffler);
+        spare = new byte[shoe.length];
+        prepareSpare();
+    }
+
+    /** copies the current shoe into the spare buffer and shuffles it on a virtual thread. Dealing only moves the
+     * cursor, so the current shoe can be read by the copy while it is being dealt. */
+    private void prepareSpare() {
+        byte[] current = shoe;
+        byte[] next = spare;
+        preparation = CompletableFuture.runAsync(() -> {
+            System.arraycopy(current, 0, next, 0, current.length);
+            shuffle(next);
+        }, PREPARATION_EXECUTOR);
+    }
+
+    /** swaps in the prepared shoe, and starts preparing the one after it. The deck only waits if the preparation has
+     * not finished yet (i.e. if less than a shoe's worth of cards was dealt since the last swap). */
+    @Override
+    public void createNewDeck() {
+        ShuffleEvent event = new ShuffleEvent();
+        event.begin();
+        event.cardsRemaining = cursor;
+        preparation.join();
+        byte[] dealt = shoe;
+        shoe = spare;
+        spare = dealt;
+        cursor = shoe.length;
+        prepareSpare();
+        if(event.shouldCommit()) {
+            event.shoeSize = shoe.length;
+            event.commit();
+        }
+    }
+}
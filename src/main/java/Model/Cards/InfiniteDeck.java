@@ -0,0 +1,107 @@
+package Model.Cards;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import Model.Cards.Shuffles.Shuffler;
+import static Model.Constants.*;
+
+/** an infinite deck, i.e. the limit of a shoe with an unbounded number of copies. Every card is drawn independently
+ * with the probability it has in the source cards, so dealing never depletes the deck and it never needs shuffling or
+ * rebuilding. The source cards are kept as the deck's shoe, which therefore describes the distribution being sampled
+ * rather than the cards yet to be dealt.
+ *
+ * Cards are drawn in constant time from an alias table (Vose's method). Each of the 52 card codes owns one column of
+ * the table, holding the probability of keeping that code and an alias to fall back on otherwise. A draw picks a column
+ * uniformly and then, unless the column is full, a second uniform number decides between the code and its alias. With
+ * standard decks every column is full and a draw costs a single random number. */
+public class InfiniteDeck extends Deck {
+
+    // the shoe only describes the distribution being sampled, so its order never matters and it is never shuffled
+    private static final Shuffler NEVER_SHUFFLED = (cards, random) -> {};
+
+    private final double[] probability = new double[NUMBER_OF_CARDS_PER_DECK];
+    private final byte[] alias = new byte[NUMBER_OF_CARDS_PER_DECK];
+
+    public InfiniteDeck() {
+        this(new SplittableRandom());
+    }
+
+    /** constructor with a random number generator. Cards are drawn with the probabilities of a standard deck. */
+    public InfiniteDeck(RandomGenerator random) {
+        super(1, random, NEVER_SHUFFLED);
+        buildAliasTable();
+    }
+
+    /** constructor with a source deck. Cards are drawn with the probabilities of the cards yet to be dealt from the
+     * source, e.g. to find the infinite deck expected value at a given composition. */
+    public InfiniteDeck(Deck source, RandomGenerator random) {
+        super(1, random, NEVER_SHUFFLED);
+        if(source.size() == 0) {
+            throw new IllegalArgumentException("The source deck must have at least one card remaining.");
+        }
+        this.shoe = new byte[source.size()];
+        System.arraycopy(source.shoe, 0, this.shoe, 0, source.size());
+        this.cursor = shoe.length;
+        buildAliasTable();
+    }
+
+    /** builds the alias table from the frequency of each card code in the shoe. Columns are scaled so that the average
+     * probability is one, then each column below one is topped up from a column above one, which becomes its alias. */
+    private void buildAliasTable() {
+        int[] counts = new int[NUMBER_OF_CARDS_PER_DECK];
+        for(int i = 0; i < cursor; i++) {
+            counts[shoe[i]]++;
+        }
+        int[] small = new int[NUMBER_OF_CARDS_PER_DECK];
+        int[] large = new int[NUMBER_OF_CARDS_PER_DECK];
+        int smallCount = 0;
+        int largeCount = 0;
+        for(int code = 0; code < NUMBER_OF_CARDS_PER_DECK; code++) {
+            probability[code] = (double) counts[code] * NUMBER_OF_CARDS_PER_DECK / cursor;
+            alias[code] = (byte) code;
+            if(probability[code] < 1) {
+                small[smallCount++] = code;
+            } else {
+                large[largeCount++] = code;
+            }
+        }
+        while(smallCount > 0 && largeCount > 0) {
+            int lower = small[--smallCount];
+            int upper = large[--largeCount];
+            alias[lower] = (byte) upper;
+            probability[upper] -= 1 - probability[lower];
+            if(probability[upper] < 1) {
+                small[smallCount++] = upper;
+            } else {
+                large[largeCount++] = upper;
+            }
+        }
+        // whatever remains is only short of one through rounding error
+        while(largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while(smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /** deals a card drawn from the alias table. The deck is never depleted, so a card is always returned. */
+    @Override
+    public Card deal() {
+        int column = random.nextInt(NUMBER_OF_CARDS_PER_DECK);
+        if(probability[column] >= 1 || random.nextDouble() < probability[column]) {
+            return Card.fromCode(column);
+        }
+        return Card.fromCode(alias[column]);
+    }
+
+    /** an infinite deck is never depleted, so it never needs rebuilding. */
+    @Override
+    public boolean needsNewDeck() {
+        return false;
+    }
+
+    /** does nothing, since dealing never removes a card from an infinite deck. */
+    @Override
+    public void createNewDeck() {}
+}
@@ -0,0 +1,39 @@
+package Model.Cards;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import Model.Cards.Shuffles.Shuffler;
+
+/** a deck that shuffles as it deals. Rather than permuting the whole shoe up front, each deal performs one step of the
+ * Fisher-Yates shuffle, swapping a card chosen uniformly from those yet to be dealt into the dealing position. The
+ * cards come out in the same uniformly random order, but the shuffle only costs as much as the cards actually dealt,
+ * which with a cut card well short of the end of the shoe (and particularly with eight decks) is a fraction of it. */
+public class LazyDeck extends Deck {
+
+    // the shuffle is carried out one card at a time by deal, so rebuilding the shoe only has to reset the cursor
+    private static final Shuffler SHUFFLED_ON_DEAL = (cards, random) -> {};
+
+    public LazyDeck(int copies) {
+        this(copies, new SplittableRandom());
+    }
+
+    /** constructor with a random number generator. Passing a seeded generator makes every deal reproducible, and the
+     * first shoe matches that of a plain deck built from the same seed. */
+    public LazyDeck(int copies, RandomGenerator random) {
+        super(copies, random, SHUFFLED_ON_DEAL);
+    }
+
+    /** deals a card chosen at random from those yet to be dealt. The chosen card is swapped to the end of the undealt
+     * cards so that they stay contiguous. */
+    @Override
+    public Card deal() {
+        if(cursor == 0) {
+            return null;
+        }
+        int drawn = random.nextInt(cursor);
+        byte code = shoe[drawn];
+        shoe[drawn] = shoe[--cursor];
+        shoe[cursor] = code;
+        return Card.fromCode(code);
+    }
+}
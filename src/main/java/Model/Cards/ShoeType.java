@@ -0,0 +1,25 @@
+package Model.Cards;
+
+import java.util.random.RandomGenerator;
+
+public enum ShoeType {
+    STANDARD,
+    DOUBLE_BUFFERED,
+    LAZY,
+    CONTINUOUS,
+    INFINITE;
+
+    /** creates a deck of this type with the given number of copies, shuffled uniformly. Standard decks are dealt to
+     * the cut card and then reshuffled, double-buffered decks prepare the next shoe in the background, lazy decks
+     * shuffle one card at a time as they deal, and continuous decks take back the discards after every round. Infinite
+     * decks draw every card independently, so the number of copies has no effect on them. */
+    public Deck create(int copies, RandomGenerator random) {
+        return switch (this) {
+            case STANDARD -> new Deck(copies, random);
+            case DOUBLE_BUFFERED -> new DoubleBufferedDeck(copies, random);
+            case LAZY -> new LazyDeck(copies, random);
+            case CONTINUOUS -> new ContinuousShufflingDeck(copies, random);
+            case INFINITE -> new InfiniteDeck(random);
+        };
+    }
+}
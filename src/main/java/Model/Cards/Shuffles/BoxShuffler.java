@@ -0,0 +1,43 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public class BoxShuffler implements Shuffler {
+
+    /** a box shuffle. The shoe is split into a small number of roughly equal packets which are restacked in reverse
+     * order. The imperfection (between 0 and 1) is how far each split may stray from its exact position, as a fraction
+     * of the packet size. */
+    private final int packets;
+    private final double imperfection;
+    private byte[] scratch = new byte[0];
+
+    public BoxShuffler(int packets, double imperfection) {
+        if(packets < 2 || imperfection < 0 || imperfection > 1) {
+            throw new IllegalArgumentException("A box shuffle needs at least two packets and an imperfection between 0 "
+                    + "and 1.");
+        }
+        this.packets = packets;
+        this.imperfection = imperfection;
+    }
+
+    public void shuffle(byte[] cards, RandomGenerator random) {
+        int size = cards.length;
+        if(scratch.length < size) {
+            scratch = new byte[size];
+        }
+        System.arraycopy(cards, 0, scratch, 0, size);
+        int jitter = (int) (imperfection * size / packets / 2);
+        int start = 0;
+        int pile = size;
+        for(int packet = 1; packet <= packets; packet++) {
+            int end = size;
+            if(packet < packets) {
+                int split = packet * size / packets + (jitter > 0 ? random.nextInt(-jitter, jitter + 1) : 0);
+                end = Math.clamp(split, start, size);
+            }
+            pile -= end - start;
+            System.arraycopy(scratch, start, cards, pile, end - start);
+            start = end;
+        }
+    }
+}
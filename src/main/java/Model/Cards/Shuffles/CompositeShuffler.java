@@ -0,0 +1,19 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public class CompositeShuffler implements Shuffler {
+
+    /** a shuffling procedure made up of several shuffles performed one after another. */
+    private final Shuffler[] steps;
+
+    public CompositeShuffler(Shuffler... steps) {
+        this.steps = steps.clone();
+    }
+
+    public void shuffle(byte[] cards, RandomGenerator random) {
+        for(Shuffler step : steps) {
+            step.shuffle(cards, random);
+        }
+    }
+}
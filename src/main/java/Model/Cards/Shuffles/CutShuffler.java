@@ -0,0 +1,32 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public class CutShuffler implements Shuffler {
+
+    /** a single cut. The shoe is split and the bottom part is moved to the top, which rotates the order without
+     * otherwise mixing it. The imperfection (between 0 and 1) is how far the cut may stray from the middle of the shoe,
+     * as a fraction of half the shoe. */
+    private final double imperfection;
+    private byte[] scratch = new byte[0];
+
+    public CutShuffler(double imperfection) {
+        if(imperfection < 0 || imperfection > 1) {
+            throw new IllegalArgumentException("The imperfection must be between 0 and 1.");
+        }
+        this.imperfection = imperfection;
+    }
+
+    public void shuffle(byte[] cards, RandomGenerator random) {
+        int size = cards.length;
+        if(scratch.length < size) {
+            scratch = new byte[size];
+        }
+        System.arraycopy(cards, 0, scratch, 0, size);
+        int half = size / 2;
+        int deviation = (int) (imperfection * half);
+        int cut = half + (deviation > 0 ? random.nextInt(-deviation, deviation + 1) : 0);
+        System.arraycopy(scratch, cut, cards, 0, size - cut);
+        System.arraycopy(scratch, 0, cards, size - cut, cut);
+    }
+}
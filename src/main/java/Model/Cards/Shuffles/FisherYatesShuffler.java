@@ -0,0 +1,19 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public class FisherYatesShuffler implements Shuffler {
+
+    /** the Fisher-Yates (Knuth) shuffle. Working down from the last position, each card is swapped with a card chosen
+     * uniformly from the positions not yet fixed, itself included. Every ordering of the shoe is equally likely, unlike
+     * swapping every position with one chosen from the whole shoe, which makes some orderings more likely than others.
+     * Runs in place in linear time with one random number per card. */
+    public void shuffle(byte[] cards, RandomGenerator random) {
+        for(int i = cards.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+}
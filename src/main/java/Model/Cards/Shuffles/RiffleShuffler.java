@@ -0,0 +1,63 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public class RiffleShuffler implements Shuffler {
+
+    /** a riffle shuffle, following the Gilbert-Shannon-Reeds model of how dealers actually riffle. The shoe is cut
+     * roughly in half (binomially) and the two packets are interleaved, dropping each card from a packet with
+     * probability proportional to that packet's size. A precision between 0 and 1 models a neater dealer: it pulls
+     * the cut towards the exact middle and makes each drop alternate packets with that probability, so that a
+     * precision of 1 is a perfect (faro) shuffle. A single riffle leaves long rising sequences of the previous order
+     * intact, which is what shuffle trackers exploit. */
+    private final double precision;
+    private byte[] scratch = new byte[0];
+
+    public RiffleShuffler(double precision) {
+        if(precision < 0 || precision > 1) {
+            throw new IllegalArgumentException("The precision must be between 0 and 1.");
+        }
+        this.precision = precision;
+    }
+
+    public void shuffle(byte[] cards, RandomGenerator random) {
+        int size = cards.length;
+        if(scratch.length < size) {
+            scratch = new byte[size];
+        }
+        System.arraycopy(cards, 0, scratch, 0, size);
+        int half = size / 2;
+        int cut = half + (int) Math.round((1 - precision) * (binomialHalf(size, random) - half));
+        int left = 0;
+        int right = cut;
+        boolean lastFromLeft = false;
+        for(int i = 0; i < size; i++) {
+            int leftRemaining = cut - left;
+            int rightRemaining = size - right;
+            boolean fromLeft;
+            if(leftRemaining == 0 || rightRemaining == 0) {
+                fromLeft = leftRemaining > 0;
+            } else if(precision > 0 && random.nextDouble() < precision) {
+                fromLeft = !lastFromLeft;
+            } else {
+                fromLeft = random.nextInt(leftRemaining + rightRemaining) < leftRemaining;
+            }
+            cards[i] = fromLeft ? scratch[left++] : scratch[right++];
+            lastFromLeft = fromLeft;
+        }
+    }
+
+    /** returns a sample from the binomial distribution of the given number of fair coin flips, counting the set bits
+     * of random longs rather than flipping one coin at a time. */
+    private static int binomialHalf(int flips, RandomGenerator random) {
+        int heads = 0;
+        int remaining = flips;
+        for(; remaining >= Long.SIZE; remaining -= Long.SIZE) {
+            heads += Long.bitCount(random.nextLong());
+        }
+        if(remaining > 0) {
+            heads += Long.bitCount(random.nextLong() & ((1L << remaining) - 1));
+        }
+        return heads;
+    }
+}
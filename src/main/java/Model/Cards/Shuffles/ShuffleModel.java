@@ -0,0 +1,26 @@
+package Model.Cards.Shuffles;
+
+import static Model.Constants.*;
+
+public enum ShuffleModel {
+    FISHER_YATES,
+    RIFFLE,
+    STRIP,
+    BOX,
+    CUT,
+    CASINO;
+
+    /** creates a new shuffler for the model, configured with the default imperfections. The casino model is the
+     * riffle - strip - riffle - box - riffle - cut procedure many casinos use to shuffle a multi-deck shoe by hand. */
+    public Shuffler create() {
+        return switch (this) {
+            case FISHER_YATES -> new FisherYatesShuffler();
+            case RIFFLE -> new RiffleShuffler(DEFAULT_RIFFLE_PRECISION);
+            case STRIP -> new StripShuffler(DEFAULT_STRIP_PACKET_SIZE, DEFAULT_STRIP_PACKET_JITTER);
+            case BOX -> new BoxShuffler(DEFAULT_BOX_PACKETS, DEFAULT_SHUFFLE_IMPERFECTION);
+            case CUT -> new CutShuffler(DEFAULT_SHUFFLE_IMPERFECTION);
+            case CASINO -> new CompositeShuffler(
+                    RIFFLE.create(), STRIP.create(), RIFFLE.create(), BOX.create(), RIFFLE.create(), CUT.create());
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public interface Shuffler {
+
+    /** rearranges a buffer of card codes in place, drawing any randomness from the given generator. Implementations
+     * may keep scratch buffers between calls, so a shuffler must not be used by two decks that shuffle concurrently. */
+    void shuffle(byte[] cards, RandomGenerator random);
+}
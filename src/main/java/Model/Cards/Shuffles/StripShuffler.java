@@ -0,0 +1,38 @@
+package Model.Cards.Shuffles;
+
+import java.util.random.RandomGenerator;
+
+public class StripShuffler implements Shuffler {
+
+    /** a strip (or running cut) shuffle. Packets are pulled off the top of the shoe one after another and dropped onto
+     * a new pile, which reverses the order of the packets while keeping the order of the cards within each. Packets
+     * have the given size, varied by up to the given jitter either way to model an imperfect hand. */
+    private final int packetSize;
+    private final int jitter;
+    private byte[] scratch = new byte[0];
+
+    public StripShuffler(int packetSize, int jitter) {
+        if(packetSize < 1 || jitter < 0 || jitter >= packetSize) {
+            throw new IllegalArgumentException("Packets must hold at least one card, with a jitter less than their "
+                    + "size.");
+        }
+        this.packetSize = packetSize;
+        this.jitter = jitter;
+    }
+
+    public void shuffle(byte[] cards, RandomGenerator random) {
+        int size = cards.length;
+        if(scratch.length < size) {
+            scratch = new byte[size];
+        }
+        System.arraycopy(cards, 0, scratch, 0, size);
+        int taken = 0;
+        int pile = size;
+        while(taken < size) {
+            int packet = Math.min(packetSize + random.nextInt(-jitter, jitter + 1), size - taken);
+            pile -= packet;
+            System.arraycopy(scratch, taken, cards, pile, packet);
+            taken += packet;
+        }
+    }
+}
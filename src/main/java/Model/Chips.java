@@ -0,0 +1,21 @@
+package Model;
+
+import static Model.Constants.CHIP_SCALE;
+
+public final class Chips {
+
+    /** chip amounts are held as whole sub-units (CHIP_SCALE per chip) so that balances, bets, and payouts stay exact
+     * no matter how many hands are played. These helpers convert at the edges, where amounts enter or leave the
+     * model as chips. */
+    private Chips() {}
+
+    /** converts an amount of chips to sub-units, rounding to the nearest sub-unit. */
+    public static long toUnits(double chips) {
+        return Math.round(chips * CHIP_SCALE);
+    }
+
+    /** converts an amount of sub-units back to chips. */
+    public static double toChips(long units) {
+        return (double) units / CHIP_SCALE;
+    }
+}
@@ -5,10 +5,12 @@ public final class Constants {
     public Constants() {}
 
     // actor constants
+    public static final int CHIP_SCALE = 100; // chip amounts are held in hundredths of a chip
     public static final int DEFAULT_NUMBER_OF_PLAYERS = 1;
     public static final int DEFAULT_PLAYER_STARTING_CHIPS = 500;
     public static final int DEFAULT_DEALER_STARTING_CHIPS = 15000;
     public static final int DEFAULT_DEALER_DRAW_VALUE = 17;
+    public static final boolean DEFAULT_DEALER_HITS_SOFT_17 = true;
     public static final int DEFAULT_PLAYER_DRAW_VALUE = 17;
 
     // strategy constants
@@ -29,12 +31,26 @@ public final class Constants {
     public static final int NUMBER_OF_CARDS_PER_DECK = 52;
     public static final int NEW_DECK_THRESHOLD = 52;
 
+    // shuffle constants
+    public static final double DEFAULT_RIFFLE_PRECISION = 0; // 0 is a typical (Gilbert-Shannon-Reeds) riffle, 1 a faro
+    public static final int DEFAULT_STRIP_PACKET_SIZE = 8;
+    public static final int DEFAULT_STRIP_PACKET_JITTER = 4;
+    public static final int DEFAULT_BOX_PACKETS = 4;
+    public static final double DEFAULT_SHUFFLE_IMPERFECTION = 0.25;
+
+    // card rank constants
+    public static final int ACE_RANK = 1;
+    public static final int KING_RANK = 13;
+
     // card value constants
     public static final int ACE_LOWER_VALUE = 1;
     public static final int ACE_UPPER_VALUE = 11;
 
     // table constants
-    public static final int DEFAULT_TABLE_POSITIONS = 5; // excludes the dealer
+    public static final int DEFAULT_TABLE_POSITIONS = 5; // excludes the dealer. At most 64 (see Table.activePositions)
+    public static final int DEFAULT_MAX_HANDS_PER_POSITION = 4; // two splits, 1 * 2 * 2 hands
+    public static final int DEFAULT_LEDGER_CAPACITY = 4; // bets per hand before a ledger has to grow
+    public static final int DEFAULT_LEDGER_PLAYER_CAPACITY = 8; // player ids a ledger indexes before it has to grow
     public static final int DEFAULT_MIN_BET_SIZE = 25;
     public static final int DEFAULT_PAYOUT_RATIO = 1;
     public static final int DEFAULT_BLACKJACK_PAYOUT_DENOMINATOR = 3;
@@ -43,6 +59,13 @@ public final class Constants {
 
     // simulation constants
     public static final int DEFAULT_NUMBER_OF_ITERATIONS = 100000;
+    public static final int DEFAULT_SIMULATION_THREADS = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_PRECISION_CHECK_INTERVAL = 10000;
+    public static final int DEFAULT_MAX_PRECISION_ITERATIONS = 100000000;
+    public static final double CONFIDENCE_INTERVAL_Z_SCORE = 1.96;
+    public static final int DEFAULT_METRICS_FLUSH_INTERVAL = 1000;
+    public static final int DEFAULT_STATISTICS_PRINT_INTERVAL = 10000;
+    public static final String SIMULATION_METRICS_OBJECT_NAME = "Blackjack:type=SimulationMetrics";
 
     // command line constants
     public static final int DEFAULT_COUNTDOWN_TIME = 1000;
@@ -0,0 +1,20 @@
+package Model.Events;
+
+import jdk.jfr.*;
+
+@Name("blackjack.DealerDecision")
+@Label("Dealer Decision")
+@Category("Blackjack")
+@Description("A decision made by the dealer's strategy.")
+@StackTrace(false)
+public class DealerDecisionEvent extends Event {
+
+    @Label("Hand Value")
+    public int handValue;
+
+    @Label("Soft Hand")
+    public boolean soft;
+
+    @Label("Action")
+    public String action;
+}
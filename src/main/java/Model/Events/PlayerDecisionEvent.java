@@ -0,0 +1,26 @@
+package Model.Events;
+
+import jdk.jfr.*;
+
+@Name("blackjack.PlayerDecision")
+@Label("Player Decision")
+@Category("Blackjack")
+@Description("A decision made by a player's strategy.")
+@StackTrace(false)
+public class PlayerDecisionEvent extends Event {
+
+    @Label("Position")
+    public int position;
+
+    @Label("Hand Value")
+    public int handValue;
+
+    @Label("Soft Hand")
+    public boolean soft;
+
+    @Label("Dealer Upcard")
+    public int upcard;
+
+    @Label("Action")
+    public String action;
+}
@@ -0,0 +1,28 @@
+package Model.Events;
+
+import jdk.jfr.*;
+
+@Name("blackjack.Round")
+@Label("Round")
+@Category("Blackjack")
+@Description("A round of blackjack, from the startup routine through to the wind down routine.")
+@StackTrace(false)
+public class RoundEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(RoundEvent.class);
+
+    @Label("Active Hands")
+    public int activeHands;
+
+    @Label("Dealer Hand Value")
+    public int dealerValue;
+
+    @Label("House Net Result")
+    public double houseNet;
+
+    /** returns whether round events are being recorded. Checked before creating the event since the event has to be
+     * held across the whole round. */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,30 @@
+package Model.Events;
+
+import jdk.jfr.*;
+
+@Name("blackjack.Settlement")
+@Label("Bet Settlement")
+@Category("Blackjack")
+@Description("A bet on a hand is settled against the dealer.")
+@StackTrace(false)
+public class SettlementEvent extends Event {
+
+    @Label("Position")
+    public int position;
+
+    @Label("Bet Type")
+    public String betType;
+
+    @Label("Hand Value")
+    public int handValue;
+
+    @Label("Dealer Hand Value")
+    public int dealerValue;
+
+    @Label("Amount")
+    public double amount;
+
+    @Label("Net Result")
+    @Description("The player's net result on the bet. Positive values are wins.")
+    public double netResult;
+}
@@ -0,0 +1,17 @@
+package Model.Events;
+
+import jdk.jfr.*;
+
+@Name("blackjack.Shuffle")
+@Label("Shoe Reshuffle")
+@Category("Blackjack")
+@Description("The shoe is refilled and reshuffled.")
+public class ShuffleEvent extends Event {
+
+    @Label("Shoe Size")
+    public int shoeSize;
+
+    @Label("Cards Remaining")
+    @Description("The number of undealt cards left in the shoe before it was reshuffled.")
+    public int cardsRemaining;
+}
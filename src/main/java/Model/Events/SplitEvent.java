@@ -0,0 +1,23 @@
+package Model.Events;
+
+import jdk.jfr.*;
+
+@Name("blackjack.Split")
+@Label("Split")
+@Category("Blackjack")
+@Description("A hand is split into two.")
+@StackTrace(false)
+public class SplitEvent extends Event {
+
+    @Label("Position")
+    public int position;
+
+    @Label("Pair Value")
+    public int pairValue;
+
+    @Label("Dealer Upcard")
+    public int upcard;
+
+    @Label("Split Accepted")
+    public boolean accepted;
+}
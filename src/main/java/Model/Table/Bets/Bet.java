@@ -1,18 +0,0 @@
-package Model.Table.Bets;
-
-public class Bet {
-
-    private double amount;
-
-    public Bet(double amount) {
-        this.amount = amount;
-    }
-
-    public double getAmount() {
-        return amount;
-    }
-
-    public void setAmount(int amount) {
-        this.amount = amount;
-    }
-}
@@ -0,0 +1,15 @@
+package Model.Table.Bets;
+
+/** the kinds of bet a player can hold on a hand. Ledgers store the ordinal so that entries stay primitive. */
+public enum BetKind {
+    STANDARD,
+    DOUBLE,
+    INSURANCE;
+
+    private static final BetKind[] VALUES = values();
+
+    /** returns the kind with the given ordinal without copying the values array. */
+    public static BetKind fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
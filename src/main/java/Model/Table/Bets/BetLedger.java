@@ -0,0 +1,99 @@
+package Model.Table.Bets;
+
+import java.util.Arrays;
+import static Model.Constants.*;
+
+public class BetLedger {
+
+    /* Every bet on a hand is an entry in three parallel arrays: the id of the player who placed it, the kind of bet,
+    * and its amount in chip sub-units. Entries are kept in the order they were booked, so a hand's first entry is
+    * always the standard bet of the first player to bet on it. Players can hold several bets on the same hand (a
+    * standard bet, a double, and insurance) and several players can back-bet the same hand, which is why a plain map
+    * keyed by player will not do. */
+    private int[] playerIds;
+    private byte[] kinds;
+    private long[] amounts;
+    private int size;
+
+    /* Indexed lookup of the entry holding a given player's bet of a given kind. Slot (playerId * kinds + kind) holds
+    * the entry's index plus one, with zero meaning the player has no such bet. */
+    private int[] entryIndex;
+
+    private static final int KIND_COUNT = BetKind.values().length;
+
+    public BetLedger() {
+        this.playerIds = new int[DEFAULT_LEDGER_CAPACITY];
+        this.kinds = new byte[DEFAULT_LEDGER_CAPACITY];
+        this.amounts = new long[DEFAULT_LEDGER_CAPACITY];
+        this.entryIndex = new int[DEFAULT_LEDGER_PLAYER_CAPACITY * KIND_COUNT];
+    }
+
+    /** records a bet and returns its entry. The arrays only grow when a hand holds more bets than ever before, so
+     * steady-state booking writes a few array slots and allocates nothing. */
+    public int add(int playerId, BetKind kind, long amount) {
+        if(size == playerIds.length) {
+            int capacity = size * 2;
+            playerIds = Arrays.copyOf(playerIds, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+        }
+        int slot = playerId * KIND_COUNT + kind.ordinal();
+        if(slot >= entryIndex.length) {
+            entryIndex = Arrays.copyOf(entryIndex, Math.max(slot + 1, entryIndex.length * 2));
+        }
+        playerIds[size] = playerId;
+        kinds[size] = (byte) kind.ordinal();
+        amounts[size] = amount;
+        // only the first bet of each kind is indexed, matching the player's original bet
+        if(entryIndex[slot] == 0) {
+            entryIndex[slot] = size + 1;
+        }
+        return size++;
+    }
+
+    /** returns the entry holding the given player's bet of the given kind, or -1 if they have not placed one. */
+    public int indexOf(int playerId, BetKind kind) {
+        int slot = playerId * KIND_COUNT + kind.ordinal();
+        return slot < entryIndex.length ? entryIndex[slot] - 1 : -1;
+    }
+
+    /** returns whether the given player holds a bet of the given kind. */
+    public boolean hasBet(int playerId, BetKind kind) {
+        return indexOf(playerId, kind) >= 0;
+    }
+
+    /** returns the amount of the given player's bet of the given kind, or zero if they have not placed one. */
+    public long getAmount(int playerId, BetKind kind) {
+        int entry = indexOf(playerId, kind);
+        return entry >= 0 ? amounts[entry] : 0;
+    }
+
+    /** removes every bet, leaving the arrays in place for the next round. Only the index slots that were used are
+     * cleared. */
+    public void clear() {
+        for(int i = 0; i < size; i++) {
+            entryIndex[playerIds[i] * KIND_COUNT + kinds[i]] = 0;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getPlayerId(int entry) {
+        return playerIds[entry];
+    }
+
+    public BetKind getKind(int entry) {
+        return BetKind.fromOrdinal(kinds[entry]);
+    }
+
+    public long getAmount(int entry) {
+        return amounts[entry];
+    }
+}
@@ -1,8 +0,0 @@
-package Model.Table.Bets;
-
-public class DoubleBet extends Bet {
-
-    public DoubleBet(double amount) {
-        super(amount);
-    }
-}
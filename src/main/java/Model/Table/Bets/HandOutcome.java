@@ -0,0 +1,38 @@
+package Model.Table.Bets;
+
+import Model.Table.Hands.PlayerHand;
+import static Model.Constants.*;
+
+/** the result of a player's hand against the dealer. Each hand is classified once per round and every wager on it
+ * (standard and double bets alike) is settled from that classification. */
+public enum HandOutcome {
+    BLACKJACK,
+    WIN,
+    PUSH,
+    LOSS;
+
+    /** classifies a hand against the dealer's final hand value. Dealer values above the blackjack constant are bust.
+     * Only natural blackjacks that beat the dealer pay the blackjack ratio. */
+    public static HandOutcome classify(PlayerHand hand, int dealerValue) {
+        if(hand.isBust()) {
+            return LOSS;
+        }
+        int handValue = hand.getHandValue();
+        if(dealerValue > BLACKJACK_CONSTANT || handValue > dealerValue) {
+            return hand.isNaturalBlackjack() ? BLACKJACK : WIN;
+        }
+        return handValue == dealerValue ? PUSH : LOSS;
+    }
+
+    /** returns the chips (in sub-units) handed back to the player for a wager of the given amount, stake included.
+     * Blackjack payouts that fall between sub-units are rounded down in the house's favour. */
+    public long returnOn(long amount) {
+        return switch (this) {
+            case BLACKJACK -> amount
+                    + amount * DEFAULT_BLACKJACK_PAYOUT_DENOMINATOR / DEFAULT_BLACKJACK_PAYOUT_NUMERATOR;
+            case WIN -> amount * (1 + DEFAULT_PAYOUT_RATIO);
+            case PUSH -> amount;
+            case LOSS -> 0;
+        };
+    }
+}
@@ -1,8 +0,0 @@
-package Model.Table.Bets;
-
-public class InsuranceBet extends Bet {
-
-    public InsuranceBet(double amount) {
-        super(amount);
-    }
-}
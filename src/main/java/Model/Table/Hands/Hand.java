@@ -2,7 +2,6 @@ package Model.Table.Hands;
 
 import java.util.ArrayList;
 import static Model.Constants.*;
-import Model.Cards.Ace;
 import Model.Cards.Card;
 
 public class Hand {
@@ -13,6 +12,13 @@ public class Hand {
     // stores the numerical value of the hand
     protected int handValue;
 
+    // stores the value of the hand with every ace counted at its lower value
+    protected int hardValue;
+
+    // stores the number of aces and the total number of cards in the hand
+    protected int aceCount;
+    protected int cardCount;
+
     // stores whether the hand has been hit or not
     protected boolean hasHit = false;
 
@@ -30,9 +36,41 @@ public class Hand {
         return builder.toString();
     }
 
-    /** adds a card to the hand. */
+    /** adds a card to the hand and updates the running totals. */
     public void receiveCard(Card card) {
         cards.add(card);
+        cardCount++;
+        if(card.isAce()) {
+            aceCount++;
+            hardValue += ACE_LOWER_VALUE;
+        } else {
+            hardValue += card.getValue();
+        }
+        updateHandValue();
+    }
+
+    /** removes the last card from the hand and updates the running totals. Used when a hand is split. */
+    public Card removeLastCard() {
+        Card card = cards.removeLast();
+        cardCount--;
+        if(card.isAce()) {
+            aceCount--;
+            hardValue -= ACE_LOWER_VALUE;
+        } else {
+            hardValue -= card.getValue();
+        }
+        updateHandValue();
+        return card;
+    }
+
+    /** removes every card from the hand and resets the running totals and the hit flag. */
+    public void clear() {
+        cards.clear();
+        handValue = 0;
+        hardValue = 0;
+        aceCount = 0;
+        cardCount = 0;
+        hasHit = false;
     }
 
     /** returns whether the hand is bust or not.*/
@@ -45,25 +83,35 @@ public class Hand {
         return handValue == BLACKJACK_CONSTANT;
     }
 
+    /** returns whether the hand is a natural blackjack (i.e. a blackjack made with the first two cards). */
+    public boolean isNaturalBlackjack() {
+        return handValue == BLACKJACK_CONSTANT && cardCount == 2;
+    }
+
+    /** returns whether the hand is "soft" - that is, whether one of its aces is being counted at its upper value. */
+    public boolean isSoft() {
+        return handValue != hardValue;
+    }
+
     public ArrayList<Card> getCards() {
         return cards;
     }
 
+    public int getCardCount() {
+        return cardCount;
+    }
+
     public int getHandValue() {
         return handValue;
     }
 
-    public void setHandValue() {
-        this.handValue = calculateHandValue();
+    public int getHardValue() {
+        return hardValue;
     }
 
     /** returns whether the hand has an ace in it or not. */
     public boolean hasAce() {
-        for(Card card : cards) {
-            if(card instanceof Ace) {
-                return true;
-            }
-        } return false;
+        return aceCount > 0;
     }
 
     public boolean hasHit() {
@@ -74,37 +122,15 @@ public class Hand {
         this.hasHit = hasHit;
     }
 
-    /** calculates the final hand value. Sums the non-ace cards before considering aces. */
-    private int calculateHandValue() {
-        int handValue = 0;
-        int aceCount = 0;
-
-        // first sweep, sums the total of non-Ace cards
-        for(Card card : cards) {
-            if(!(card instanceof Ace)) {
-                handValue += card.getValue();
-            }
+    /** calculates the hand value from the running totals. At most one ace can ever be counted at its upper value, so
+     * the hand value is the hard value plus the difference between the ace values whenever that does not bust the
+     * hand. */
+    private void updateHandValue() {
+        int softValue = hardValue + ACE_UPPER_VALUE - ACE_LOWER_VALUE;
+        if(aceCount > 0 && softValue <= BLACKJACK_CONSTANT) {
+            handValue = softValue;
+        } else {
+            handValue = hardValue;
         }
-
-        // second sweep, sums the total of Ace cards
-        for(Card card : cards) {
-            if(card instanceof Ace) {
-                if(aceCount > 0) {
-                    if(handValue + ACE_UPPER_VALUE < BLACKJACK_CONSTANT) {
-                        handValue += ACE_UPPER_VALUE;
-                    } else {
-                        handValue += ACE_LOWER_VALUE;
-                    }
-                } else if(handValue < ACE_UPPER_VALUE) {
-                    handValue += ACE_UPPER_VALUE;
-                } else {
-                    handValue += ACE_LOWER_VALUE;
-                }
-                /* if an ace has already been counted then any subsequent aces need to be assigned their lower value
-                rather than their higher value. */
-                aceCount++;
-            }
-        }
-        return handValue;
     }
 }
@@ -1,10 +1,7 @@
 package Model.Table.Hands;
 
-import java.util.ArrayList;
-import java.util.Map;
 import Model.Actors.Player;
-import Model.Cards.Ace;
-import Model.Table.Bets.Bet;
+import Model.Table.Bets.BetLedger;
 import Model.Table.Positions.PlayerPosition;
 
 public class PlayerHand extends Hand {
@@ -12,8 +9,8 @@ public class PlayerHand extends Hand {
     // the position to which the hand is allocated.
     private PlayerPosition position;
 
-    /* a list of player-bet pairs for each position. This is necessary because players can "back-bet" other player's hands. */
-    private ArrayList<Map.Entry<Player, Bet>> pairs;
+    /* the ledger of bets on the hand. This is necessary because players can "back-bet" other player's hands. */
+    private final BetLedger ledger;
 
     /* The acting player is the player with agency in the hand. Other players may still "back-bet" the position, but
      * ultimately the acting player chooses the action. By default, this is the player assigned to the position. */
@@ -22,12 +19,20 @@ public class PlayerHand extends Hand {
     public PlayerHand(PlayerPosition position) {
         super();
         this.position = position;
-        this.pairs = new ArrayList<>();
+        this.ledger = new BetLedger();
     }
 
-    /** returns whether the hand can be split. */
+    /** empties the hand so that it can be reused in a later round. Clears the cards, the bet ledger, and the acting
+     * player while keeping the underlying arrays (and their capacity) in place. */
+    public void reset() {
+        clear();
+        ledger.clear();
+        actingPlayer = null;
+    }
+
+    /** returns whether the hand can be split. Pairs cannot be split once the position has reached its split limit. */
     public boolean hasSplitOption() {
-        if(cards.size() > 1)
+        if(cardCount > 1 && position.hasSpareHand())
             return cards.get(0).getValue() == cards.get(1).getValue();
         else
             return false;
@@ -35,12 +40,12 @@ public class PlayerHand extends Hand {
 
     /** returns whether players can buy insurance on the hand. */
     public boolean hasInsuranceOption(DealerHand hand) {
-        return hand.getCards().getFirst() instanceof Ace;
+        return hand.getCards().getFirst().isAce();
     }
 
     /** returns whether the hand has a bet placed on it. */
     public boolean hasBet() {
-        return !pairs.isEmpty();
+        return !ledger.isEmpty();
     }
 
     public PlayerPosition getPosition() {
@@ -51,9 +56,9 @@ public class PlayerHand extends Hand {
         this.position = position;
     }
 
-    /** returns the list of player-bet pairs associated with the hand (if any). */
-    public ArrayList<Map.Entry<Player, Bet>> getPairs() {
-        return pairs;
+    /** returns the ledger of bets placed on the hand (if any). */
+    public BetLedger getLedger() {
+        return ledger;
     }
 
     public Player getActingPlayer() {
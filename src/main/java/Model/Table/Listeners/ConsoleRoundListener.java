@@ -0,0 +1,123 @@
+package Model.Table.Listeners;
+
+import java.util.ArrayList;
+import Model.Actors.Dealer;
+import Model.Actors.Player;
+import Model.Actors.Strategies.Action;
+import Model.Chips;
+import Model.Table.Hands.DealerHand;
+import Model.Table.Hands.PlayerHand;
+import static Model.Constants.DEFAULT_MIN_BET_SIZE;
+
+/** renders each round event to the command line. Used for interactive play. */
+public class ConsoleRoundListener implements RoundListener {
+
+    // prints welcome message
+    public void onWelcome() {
+        System.out.println("********************************");
+
+        System.out.println("***** WELCOME TO BLACKJACK *****");
+
+        System.out.println("********************************");
+    }
+
+    // prints new round message
+    public void onNewRound() {
+        System.out.print("\n");
+        System.out.println("---- NEW ROUND ----");
+    }
+
+    // prints all active player hands at the table
+    public void onActiveHands(ArrayList<PlayerHand> activeHands) {
+        for(PlayerHand hand : activeHands) {
+            System.out.println("Position: " + hand.getPosition().getPositionNumber());
+            System.out.println("----" + " Hand: " + hand + " Hand value: " + hand.getHandValue() + ".");
+            if (hand.isBust()) {
+                System.out.println("BUST!");
+            }
+        }
+    }
+
+    // prints the dealer's first card and its corresponding value
+    public void onDealerFirstCard(DealerHand hand) {
+        System.out.println("Position: 0 (Dealer)");
+        System.out.println("----" + " Hand: " + hand.getCards().getFirst() + " Hand Value: " +
+                hand.getCards().getFirst().getValue() + "." + "\n");
+    }
+
+    // print the dealer's hand
+    public void onDealerHand(DealerHand hand) {
+        System.out.println("Position: 0 (Dealer)");
+        System.out.println("----" + " Hand: " + hand.toString() + " Hand Value: " +
+                hand.getHandValue()
+                + "." + "\n");
+        if(hand.isBust()) {
+            System.out.println("BUST!");
+        }
+    }
+
+    public void onPlayerDecision(PlayerHand hand, Action action) {
+        System.out.println("---- PLAYER STRATEGY IS: " + action + " ----");
+    }
+
+    public void onBust() {
+        System.out.println("BUST!");
+    }
+
+    public void onBetPlaced(Player player) {
+        System.out.println("Your bet has been placed! You have " + (int) player.getChips() +
+                " chips remaining.");
+    }
+
+    public void onDoubleBetPlaced(Player player) {
+        System.out.println("Your double down bet has been placed! You have " + (int) player.getChips() +
+                " chips remaining.");
+    }
+
+    public void onInsuranceBetPlaced(Player player) {
+        System.out.println("Your insurance bet has been placed! You have " + (int) player.getChips() +
+                " chips remaining.");
+    }
+
+    public void onInsuranceBooked() {
+        System.out.println("----INSURANCE BET BOOKED!----");
+    }
+
+    public void onSplit(double amount) {
+        System.out.println("Hand split. Additional bet booked for " + (int) amount + " chips on second hand.");
+    }
+
+    public void onInvalidBet() {
+        System.out.println("INVALID BET!");
+    }
+
+    public void onBetBelowMinimum(double amount) {
+        System.out.println("Bet size of: " + (int) amount + " is less than the minimum bet size: "
+                + DEFAULT_MIN_BET_SIZE + ".");
+    }
+
+    public void onExistingBetNotFound() {
+        System.out.println("Existing bet not found. New bet invalid.");
+    }
+
+    public void onActionAlreadyUsed() {
+        System.out.println("Player has already used this action. Double down bet invalid.");
+    }
+
+    // prints results
+    public void onHandResults(ArrayList<Player> players, long[] playerBalances, Dealer dealer, long houseBalance) {
+        System.out.println("---- RESULTS ----");
+        for(Player player : players) {
+            long openingBalance = playerBalances[player.getId()];
+            System.out.println("Player: " + player);
+            System.out.println("Starting Balance: " + (int) Chips.toChips(openingBalance) + " Closing Balance: "
+                    + (int) player.getChips());
+            System.out.println("Profit (Loss): " + (int) Chips.toChips(player.getChipUnits() - openingBalance) + "\n");
+        }
+        System.out.println("Player: House");
+        System.out.println("Starting Balance: " + (int) Chips.toChips(houseBalance) + " Closing Balance: "
+                + (int) dealer.getChips());
+        System.out.println("Profit (Loss): " + (int) Chips.toChips(dealer.getChipUnits() - houseBalance) + "\n");
+        System.out.println("---- END OF ROUND ----");
+    }
+}
@@ -0,0 +1,47 @@
+package Model.Table.Listeners;
+
+import java.util.ArrayList;
+import Model.Actors.Dealer;
+import Model.Actors.Player;
+import Model.Actors.Strategies.Action;
+import Model.Table.Hands.DealerHand;
+import Model.Table.Hands.PlayerHand;
+
+/** receives the events produced by the table and its bet processors over the course of a round. Interactive games
+ * render these events to the console while simulations discard them. */
+public interface RoundListener {
+
+    void onWelcome();
+
+    void onNewRound();
+
+    void onActiveHands(ArrayList<PlayerHand> activeHands);
+
+    void onDealerFirstCard(DealerHand hand);
+
+    void onDealerHand(DealerHand hand);
+
+    void onPlayerDecision(PlayerHand hand, Action action);
+
+    void onBust();
+
+    void onBetPlaced(Player player);
+
+    void onDoubleBetPlaced(Player player);
+
+    void onInsuranceBetPlaced(Player player);
+
+    void onInsuranceBooked();
+
+    void onSplit(double amount);
+
+    void onInvalidBet();
+
+    void onBetBelowMinimum(double amount);
+
+    void onExistingBetNotFound();
+
+    void onActionAlreadyUsed();
+
+    void onHandResults(ArrayList<Player> players, long[] playerBalances, Dealer dealer, long houseBalance);
+}
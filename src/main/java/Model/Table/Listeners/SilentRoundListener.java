@@ -0,0 +1,47 @@
+package Model.Table.Listeners;
+
+import java.util.ArrayList;
+import Model.Actors.Dealer;
+import Model.Actors.Player;
+import Model.Actors.Strategies.Action;
+import Model.Table.Hands.DealerHand;
+import Model.Table.Hands.PlayerHand;
+
+/** discards every round event. Used in simulation mode so that a headless run performs no string formatting and no
+ * console I/O. */
+public class SilentRoundListener implements RoundListener {
+
+    public void onWelcome() {}
+
+    public void onNewRound() {}
+
+    public void onActiveHands(ArrayList<PlayerHand> activeHands) {}
+
+    public void onDealerFirstCard(DealerHand hand) {}
+
+    public void onDealerHand(DealerHand hand) {}
+
+    public void onPlayerDecision(PlayerHand hand, Action action) {}
+
+    public void onBust() {}
+
+    public void onBetPlaced(Player player) {}
+
+    public void onDoubleBetPlaced(Player player) {}
+
+    public void onInsuranceBetPlaced(Player player) {}
+
+    public void onInsuranceBooked() {}
+
+    public void onSplit(double amount) {}
+
+    public void onInvalidBet() {}
+
+    public void onBetBelowMinimum(double amount) {}
+
+    public void onExistingBetNotFound() {}
+
+    public void onActionAlreadyUsed() {}
+
+    public void onHandResults(ArrayList<Player> players, long[] playerBalances, Dealer dealer, long houseBalance) {}
+}
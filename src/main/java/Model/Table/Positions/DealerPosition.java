@@ -11,7 +11,7 @@ public class DealerPosition {
     }
 
     public void clearHand() {
-        hand.getCards().clear();
+        hand.clear();
     }
 
     public DealerHand getHand() {
@@ -1,12 +1,11 @@
 package Model.Table.Positions;
 
 import java.util.ArrayList;
-import java.util.Map;
 import Model.Actors.Player;
-import Model.Table.Bets.Bet;
 import Model.Table.Hands.PlayerHand;
+import static Model.Constants.*;
 
-public class PlayerPosition {
+public final class PlayerPosition {
 
     // unique identifier
     private final int positionNumber;
@@ -19,33 +18,70 @@ public class PlayerPosition {
 
     /* Because player's can elect to "split" their opening hand, the position class must be capable of handling multiple
     * hands. By default, the game permits two splits only, resulting in a total of 1 * 2 * 2 = 4 hands. Although these
-    * hands are only instantiated once the acting player has elected to split. Note that other players with bets on the
+    * hands are only opened once the acting player has elected to split. Note that other players with bets on the
     * position do not have agency in the split. Their initial bet is allocated to the rightmost hands. */
     private ArrayList<PlayerHand> hands;
 
+    /* The hands available to the position, allocated once with the position and reset between rounds rather than
+    * reallocated. The open hands are always the first hands.size() hands of the arena. */
+    private final PlayerHand[] arena;
+
+    // whether the default player has booked a standard bet on the position this round
+    private boolean defaultPlayerInHand;
+
     /** constructor with player parameter. */
     public PlayerPosition(int number, Player defaultPlayer) {
         this.positionNumber = number;
         this.defaultPlayer = defaultPlayer;
-        this.hands = new ArrayList<>();
+        this.hands = new ArrayList<>(DEFAULT_MAX_HANDS_PER_POSITION);
+        this.arena = createArena();
+        openHand();
     }
 
     /** constructor with no player parameter. */
     public PlayerPosition(int number) {
         this.positionNumber = number;
-        this.hands = new ArrayList<>();
+        this.hands = new ArrayList<>(DEFAULT_MAX_HANDS_PER_POSITION);
+        this.arena = createArena();
+        openHand();
+    }
+
+    /** preallocates every hand the position can hold in a single round. */
+    private PlayerHand[] createArena() {
+        PlayerHand[] arena = new PlayerHand[DEFAULT_MAX_HANDS_PER_POSITION];
+        for(int i = 0; i < arena.length; i++) {
+            arena[i] = new PlayerHand(this);
+        }
+        return arena;
+    }
+
+    /** opens the next empty hand from the arena, adding it to the position's hands. Returns null if every hand is
+     * already open. */
+    public PlayerHand openHand() {
+        if(!hasSpareHand()) {
+            return null;
+        }
+        PlayerHand hand = arena[hands.size()];
+        hand.reset();
+        hands.add(hand);
+        return hand;
+    }
+
+    /** returns whether the position has room for another hand (i.e. whether a hand can still be split). */
+    public boolean hasSpareHand() {
+        return hands.size() < arena.length;
+    }
+
+    /** records that a player has booked a standard bet on the position. */
+    public void addBettor(Player player) {
+        if(player.equals(defaultPlayer)) {
+            defaultPlayerInHand = true;
+        }
     }
 
     /** returns whether the default player has a live bet on the position. */
     public boolean isDefaultPlayerInHand() {
-        for(PlayerHand hand : hands) {
-            for(Map.Entry<Player, Bet> pair : hand.getPairs()) {
-                if(pair.getKey().equals(defaultPlayer)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return defaultPlayerInHand;
     }
 
     public int getPositionNumber() {
@@ -68,7 +104,11 @@ public class PlayerPosition {
         this.hands = hands;
     }
 
+    /** closes every hand opened by splits and resets the first hand, which always stays open so that bets can be
+     * booked on the position. The closed hands return to the arena and are reset when they are next opened. */
     public void clearHands() {
         hands.clear();
+        openHand();
+        defaultPlayerInHand = false;
     }
 }
@@ -1,6 +1,13 @@
 package Model.Table.Processors;
 
+import Model.Actors.Player;
+import Model.Table.Hands.PlayerHand;
+import Model.Table.Positions.PlayerPosition;
+
 public interface BetProcessor {
 
-    void process();
+    /** validates and books a bet for a player on a given position and hand, for an amount in chip sub-units.
+     * Processors are created once per table and hold no per-bet state, so the same instance handles every bet of its
+     * kind. Bets sized by the player's original bet (doubles and splits) ignore the amount. */
+    void process(Player player, PlayerPosition position, PlayerHand hand, long amount);
 }
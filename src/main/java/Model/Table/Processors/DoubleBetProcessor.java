@@ -1,41 +1,35 @@
 package Model.Table.Processors;
 
 import java.util.ArrayList;
-import java.util.Map;
 import Model.Actors.Player;
-import Model.Table.Bets.Bet;
-import Model.Table.Bets.DoubleBet;
+import Model.Table.Bets.BetKind;
 import Model.Table.Hands.PlayerHand;
+import Model.Table.Listeners.RoundListener;
 import Model.Table.Positions.PlayerPosition;
 import Model.Table.Validators.DoubleBetValidator;
 
 public class DoubleBetProcessor implements BetProcessor {
 
-    private final Player player;
-    private final PlayerPosition position;
     private final DoubleBetValidator validator;
+    private final RoundListener listener;
 
-    public DoubleBetProcessor(boolean isSimulation, ArrayList<Player> players, ArrayList<PlayerPosition> playerPositions,
-                                Player player, PlayerPosition position, PlayerHand hand) {
-        this.player = player;
-        this.position = position;
-        this.validator = new DoubleBetValidator(isSimulation, players, playerPositions, player, position, hand);
+    public DoubleBetProcessor(boolean isSimulation, RoundListener listener, ArrayList<Player> players,
+                              ArrayList<PlayerPosition> playerPositions) {
+        this.listener = listener;
+        this.validator = new DoubleBetValidator(isSimulation, listener, players, playerPositions);
     }
 
-    public void process() {
-        if(validator.isValid()) {
-            double amount = validator.getOriginalBet(player);
-            bookBet(player, position, amount);
+    /** doubles the player's original bet on the hand. The amount is ignored. */
+    public void process(Player player, PlayerPosition position, PlayerHand hand, long amount) {
+        if(validator.isValid(player, position, hand, amount)) {
+            bookBet(player, hand, validator.findOriginalBet(player, hand));
         }
     }
 
-    /** books a bet for a player on a given position for a given amount. */
-    private void bookBet(Player player, PlayerPosition position, double amount) {
-        Bet playerBet = new DoubleBet(amount);
-        Map.Entry<Player, Bet> entry = Map.entry(player, playerBet);
-        position.getHands().getFirst().getPairs().add(entry);
-        player.dispenseChips(amount);
-        System.out.println("Your double down bet has been placed! You have " + (int) player.getChips() +
-                " chips remaining.");
+    /** books a bet for a player on a given hand for a given amount. */
+    private void bookBet(Player player, PlayerHand hand, long amount) {
+        hand.getLedger().add(player.getId(), BetKind.DOUBLE, amount);
+        player.dispenseChipUnits(amount);
+        listener.onDoubleBetPlaced(player);
     }
 }
@@ -1,66 +1,55 @@
 package Model.Table.Processors;
 
 import java.util.ArrayList;
-import java.util.Map;
 import Model.Actors.Player;
-import Model.Table.Bets.Bet;
+import Model.Chips;
+import Model.Table.Bets.BetKind;
 import Model.Table.Hands.PlayerHand;
+import Model.Table.Listeners.RoundListener;
 import Model.Table.Positions.PlayerPosition;
 import Model.Table.Validators.SplitBetValidator;
 
 public class SplitBetProcessor implements BetProcessor {
 
-    private ArrayList<PlayerHand> activeHands;
-    private final Player player;
-    private final PlayerPosition position;
-    private final PlayerHand hand;
+    private final ArrayList<PlayerHand> activeHands;
     private final SplitBetValidator validator;
+    private final RoundListener listener;
 
-    public SplitBetProcessor(boolean isSimulation, ArrayList<Player> players, ArrayList<PlayerPosition> playerPositions,
-                             ArrayList<PlayerHand> activeHands, Player player, PlayerPosition position, PlayerHand hand) {
+    /** the processor inserts split hands directly into the table's active hands list. */
+    public SplitBetProcessor(boolean isSimulation, RoundListener listener, ArrayList<Player> players,
+                             ArrayList<PlayerPosition> playerPositions, ArrayList<PlayerHand> activeHands) {
         this.activeHands = activeHands;
-        this.player = player;
-        this.position = position;
-        this.hand = hand;
-        this.validator = new SplitBetValidator(isSimulation, players, playerPositions, player, position, hand);
+        this.listener = listener;
+        this.validator = new SplitBetValidator(isSimulation, listener, players, playerPositions);
     }
 
-    public void process() {
-         if(validator.isValid()) {
-             double amount = validator.getOriginalBet(player);
+    /** splits the hand, matching the player's original bet on the new hand. The amount is ignored. */
+    public void process(Player player, PlayerPosition position, PlayerHand hand, long amount) {
+         if(validator.isValid(player, position, hand, amount)) {
+             long splitAmount = validator.findOriginalBet(player, hand);
 
-             // creates new hand, bet, and pair instances for the split
-             PlayerHand splitHand = new PlayerHand(position);
-             Bet splitBet = new Bet(amount);
-             Map.Entry<Player, Bet> splitPair = Map.entry(player, splitBet);
+             // opens a new hand from the position's arena for the split
+             PlayerHand splitHand = position.openHand();
 
              // sets the acting player for the new hand to be the current player
              splitHand.setActingPlayer(player);
 
              // dispenses chips from the player for the new hand
-             player.dispenseChips(amount);
-             System.out.println("Hand split. Additional bet booked for " + (int) amount + " chips on second hand.");
+             player.dispenseChipUnits(splitAmount);
+             listener.onSplit(Chips.toChips(splitAmount));
 
-             // removes the split card from the main hand, adds it to the new one
-             splitHand.getCards().add(hand.getCards().removeLast());
+             // removes the split card from the main hand, adds it to the new one. Both hand values update as the
+             // card moves across
+             splitHand.receiveCard(hand.removeLastCard());
 
              // resets the hit flag on the original hand
              hand.setHasHit(false);
 
-             // updates the hand values of both hands
-             splitHand.setHandValue();
-             hand.setHandValue();
-
-             // adds the new player-bet pair to the split hand
-             splitHand.getPairs().add(splitPair);
+             // books the matching standard bet on the split hand
+             splitHand.getLedger().add(player.getId(), BetKind.STANDARD, splitAmount);
 
              // places the split hand one place ahead of the original within the active hands instance
             activeHands.add(activeHands.indexOf(hand) + 1, splitHand);
          }
     }
-
-    /** returns the refreshed active hands list. */
-    public ArrayList<PlayerHand> refreshActiveHands() {
-        return activeHands;
-    }
 }
@@ -1,18 +1,29 @@
 package Model.Table;
 
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import Exceptions.PlayerCountException;
 import Model.Actors.Dealer;
 import Model.Actors.Player;
+import Model.Actors.Strategies.Action;
+import Model.Cards.Card;
 import Model.Cards.Deck;
-import Model.Table.Bets.Bet;
-import Model.Table.Bets.InsuranceBet;
+import Model.Chips;
+import Model.Events.DealerDecisionEvent;
+import Model.Events.PlayerDecisionEvent;
+import Model.Events.RoundEvent;
+import Model.Events.SettlementEvent;
+import Model.Events.SplitEvent;
+import Model.Table.Bets.BetKind;
+import Model.Table.Bets.BetLedger;
+import Model.Table.Bets.HandOutcome;
 import Model.Table.Hands.DealerHand;
 import Model.Table.Hands.Hand;
 import Model.Table.Hands.PlayerHand;
+import Model.Table.Listeners.ConsoleRoundListener;
+import Model.Table.Listeners.RoundListener;
+import Model.Table.Listeners.SilentRoundListener;
 import Model.Table.Positions.DealerPosition;
 import Model.Table.Positions.PlayerPosition;
 import Model.Table.Processors.DoubleBetProcessor;
@@ -30,13 +41,24 @@ public class Table {
     private ArrayList<Player> players;
     private final DealerPosition dealerPosition;
     private final ArrayList<PlayerPosition> playerPositionsIterable;
-    private ArrayList<PlayerHand> activeHands;
-    private HashMap<Player, Double> playerBalances;
-    private Double houseBalance;
+    private final ArrayList<PlayerHand> activeHands;
+    private long activePositions; // bit i is set once a standard bet is booked on the position at index i
+    private long[] playerBalances; // each player's opening balance for the round in chip sub-units, indexed by id
+    private long houseBalance;
+    private RoundListener listener;
+
+    // bet processors are created once and reused for every bet of their kind
+    private StandardBetProcessor standardBetProcessor;
+    private InsuranceBetProcessor insuranceBetProcessor;
+    private DoubleBetProcessor doubleBetProcessor;
+    private SplitBetProcessor splitBetProcessor;
+    private RoundEvent roundEvent; // only created while round events are being recorded
 
     /// table stats
     public int handCount = 0;
     public int splitCount = 0;
+    public int doubleCount = 0;
+    public int reshuffleCount = 0;
     public int blackjackCount = 0;
     public int playerWinCount = 0;
     public int playerLossCount = 0;
@@ -44,18 +66,35 @@ public class Table {
 
     /// default constructor
     public Table(int playerCount, int deckCount, boolean isSimulation) {
+        this(playerCount, deckCount, isSimulation, new SplittableRandom());
+    }
+
+    /** constructor with a seed. Tables built from the same seed deal identical shoes. */
+    public Table(int playerCount, int deckCount, boolean isSimulation, long seed) {
+        this(playerCount, deckCount, isSimulation, new SplittableRandom(seed));
+    }
+
+    /** constructor with a random number generator, which is handed to the table's deck. */
+    public Table(int playerCount, int deckCount, boolean isSimulation, RandomGenerator random) {
+        this(playerCount, new Deck(deckCount, random), isSimulation);
+    }
+
+    /** constructor with a deck, for tables that deal from a particular kind of deck (e.g. a double-buffered one). */
+    public Table(int playerCount, Deck deck, boolean isSimulation) {
         this.isSimulation = isSimulation;
-        this.deck = new Deck(deckCount);
+        this.deck = deck;
         this.dealer = new Dealer(DEFAULT_DEALER_STARTING_CHIPS);
         this.players = new ArrayList<>();
         this.dealerPosition = new DealerPosition();
         this.playerPositionsIterable = new ArrayList<>();
-        this.activeHands = new ArrayList<>();
-        this.playerBalances = new HashMap<>();
+        this.activeHands = new ArrayList<>(DEFAULT_TABLE_POSITIONS * DEFAULT_MAX_HANDS_PER_POSITION);
+        this.listener = isSimulation ? new SilentRoundListener() : new ConsoleRoundListener();
         initPlayers(playerCount);
+        this.playerBalances = new long[players.size()];
         initPlayerPositions();
         assignDefaultPlayerPositions(players);
         assignDealerPosition(dealer);
+        createBetProcessors();
     }
 
     /** initializes the game state for a new round of Blackjack.
@@ -63,6 +102,7 @@ public class Table {
      * creates empty player hands at each position.
      * creates an empty dealer hand at the dealer position.</p> */
     public void startupRoutine() {
+        beginRoundEvent();
         printNewRoundMessage();
         logPlayerBalances();
         logHouseBalance();
@@ -71,26 +111,48 @@ public class Table {
         createDealerHand();
     }
 
-    /** Actions: deals each player two initial cards, computes the hand values for all active hands, outputs the results. */
+    /** Actions: deals each player two initial cards, outputs the results. Hand values are kept up to date as each
+     * card is received. */
     public void drawRoutine() {
+        setActiveHands();
         determineActingPlayers();
         dealOpeningCards();
-        setActiveHands();
-        calculateHandValues();
         printActivePlayerHands();
         printDealerFirstCard();
     }
 
-    /** Actions: handles regular payouts, handles insurance payouts, and resets the game state in preparation for a new
-     * round. */
+    /** Actions: settles every bet at the table, and resets the game state in preparation for a new round. */
     public void windDownRoutine() {
-        handleRegularPayouts();
-        handleInsurancePayouts();
+        settleBets();
         printHandResults();
+        commitRoundEvent();
         clearActiveHands();
         clearAllHands();
     }
 
+    /** starts timing the round if round events are being recorded by the flight recorder. */
+    private void beginRoundEvent() {
+        if(RoundEvent.isRecording()) {
+            roundEvent = new RoundEvent();
+            roundEvent.begin();
+        }
+    }
+
+    /** commits the round event with the round's outcome. The house balance is logged at startup, so the difference
+     * is the house's net result for the round. */
+    private void commitRoundEvent() {
+        if(roundEvent != null) {
+            roundEvent.end();
+            if(roundEvent.shouldCommit()) {
+                roundEvent.activeHands = getActiveHands().size();
+                roundEvent.dealerValue = getDealerHand().getHandValue();
+                roundEvent.houseNet = Chips.toChips(dealer.getChipUnits() - houseBalance);
+                roundEvent.commit();
+            }
+            roundEvent = null;
+        }
+    }
+
     /** initializes each of the players at the table. Throws an exception if more players are allocated than the
      * table allows. */
     private void initPlayers(int playerCount) throws PlayerCountException {
@@ -100,6 +162,7 @@ public class Table {
         } else {
             for (int i = 0; i < playerCount; i++) {
                 Player player = new Player(DEFAULT_PLAYER_STARTING_CHIPS);
+                player.setId(i);
                 players.add(player);
             }
         }
@@ -143,83 +206,87 @@ public class Table {
     /** logs each of the player's opening balances, storing them as key-value pairs. */
     private void logPlayerBalances() {
         for(Player player : players) {
-            playerBalances.put(player, player.getChips());
+            playerBalances[player.getId()] = player.getChipUnits();
         }
     }
 
     /** logs the house's opening balance. */
     private void logHouseBalance() {
-        this.houseBalance = dealer.getChips();
+        this.houseBalance = dealer.getChipUnits();
     }
 
-    /** initializes an empty hand for each position at the table. Required before dealing cards. */
+    /** ensures that every position starts the round with a single empty hand. Required before dealing cards. Each
+     * position keeps its first hand open between rounds, so only positions left over from an unfinished round need
+     * to be cleared. */
     private void createPlayerHands() {
-        for(PlayerPosition position : playerPositionsIterable) {
-            PlayerHand emptyHand = new PlayerHand(position);
-            position.getHands().add(emptyHand);
-        }
+        clearPlayerHands();
     }
 
-    /** initializes an empty hand for the dealer. */
+    /** empties the dealer's hand, which is reused from one round to the next. */
     private void createDealerHand() {
-        DealerHand dealerHand = new DealerHand();
-        dealerPosition.setHand(dealerHand);
+        dealerPosition.clearHand();
     }
 
     /** checks to see how many cards remain in the deck and creates a new deck instance if the number is too low. */
     private void checkDeck() {
-        if(getDeck().size() < NEW_DECK_THRESHOLD) {
+        if(deck.needsNewDeck()) {
             deck.createNewDeck();
+            reshuffleCount++;
         }
     }
 
     /** books a standard bet for a player on a given position for a given amount. To be called before the cards are
      * dealt. */
     public void bookStandardBet(Player player, PlayerPosition position, double amount) {
-        StandardBetProcessor processor = new StandardBetProcessor(isSimulation, players, playerPositionsIterable,
-                player, position, amount);
-        processor.process();
+        PlayerHand hand = position.getHands().getFirst();
+        standardBetProcessor.process(player, position, hand, Chips.toUnits(amount));
+        if(hand.hasBet()) {
+            activePositions |= 1L << (position.getPositionNumber() - 1);
+        }
     }
 
     /** books an insurance bet for a player on a given position for a given amount. To be called AFTER the cards are
      * dealt. */
     public void bookInsuranceBet(Player player, PlayerPosition position, PlayerHand hand, double amount) {
-        InsuranceBetProcessor processor = new InsuranceBetProcessor(isSimulation, players, playerPositionsIterable,
-                player, position, hand, amount);
-        processor.process();
+        insuranceBetProcessor.process(player, position, hand, Chips.toUnits(amount));
     }
 
     /** doubles the player's existing bet at a given position for that amount. Players can only double down once and if
      * they do, they can only hit one more time. If the player has already hit, they cannot double down. Also, if the
-     * player has already made a natural blackjack, they cannot double down. */
-    public void bookDoubleDownBet(Player player, PlayerPosition position, PlayerHand hand) {
-        DoubleBetProcessor processor = new DoubleBetProcessor(isSimulation, players, playerPositionsIterable,
-                player, position, hand);
-        processor.process();
+     * player has already made a natural blackjack, they cannot double down. Returns whether the bet was accepted. */
+    public boolean bookDoubleDownBet(Player player, PlayerPosition position, PlayerHand hand) {
+        boolean alreadyDoubled = hand.getLedger().hasBet(player.getId(), BetKind.DOUBLE);
+        doubleBetProcessor.process(player, position, hand, 0);
+        return !alreadyDoubled && hand.getLedger().hasBet(player.getId(), BetKind.DOUBLE);
     }
 
     /** if the player's first and second cards are equal in value and if the player has chips remaining equal to the
      * size of their original bet, the hand is "split". Meaning that the second card is allocated to a new hand and
      * the player's new bet is associated with this hand. */
     public void splitHand(Player player, PlayerPosition position, PlayerHand hand) {
-        SplitBetProcessor processor = new SplitBetProcessor(isSimulation, players, playerPositionsIterable, activeHands,
-                player, position, hand);
-        processor.process();
-        this.activeHands = processor.refreshActiveHands();
+        SplitEvent event = new SplitEvent();
+        event.begin();
+        int pairValue = hand.getCards().getFirst().getValue();
+        int handsBeforeSplit = position.getHands().size();
+        splitBetProcessor.process(player, position, hand, 0);
+        if(event.shouldCommit()) {
+            event.position = position.getPositionNumber();
+            event.pairValue = pairValue;
+            event.upcard = getDealerHand().getCards().getFirst().getValue();
+            event.accepted = position.getHands().size() > handsBeforeSplit;
+            event.commit();
+        }
     }
 
-    /** returns a list of the active hands at the table. */
+    /** collects the active hands at the table into the table's reusable list, in position order. Only the positions
+     * in the active position mask are visited. Must be called before any hand is split, while each active position
+     * holds a single hand. */
     public void setActiveHands() {
-        ArrayList<PlayerHand> activeHands = new ArrayList<>();
-        for(PlayerPosition position : playerPositionsIterable) {
-            for(PlayerHand hand : position.getHands()) {
-                if(hand.hasBet()) {
-                    activeHands.add(hand);
-                    handCount++;
-                }
-            }
+        activeHands.clear();
+        for(long positions = activePositions; positions != 0; positions &= positions - 1) {
+            activeHands.add(playerPositionsIterable.get(Long.numberOfTrailingZeros(positions)).getHands().getFirst());
+            handCount++;
         }
-        this.activeHands =  activeHands;
     }
 
     public ArrayList<PlayerHand> getActiveHands() {
@@ -236,18 +303,34 @@ public class Table {
         clearDealerHand();
     }
 
-    /** private helper method. Clears all player hands at the table. */
+    /** private helper method. Clears the hands of every position that was bet on, then empties the active position
+     * mask. Positions without bets hold an empty hand already. */
     private void clearPlayerHands() {
-        for(PlayerPosition position : playerPositionsIterable) {
+        for(long positions = activePositions; positions != 0; positions &= positions - 1) {
+            PlayerPosition position = playerPositionsIterable.get(Long.numberOfTrailingZeros(positions));
+            for(PlayerHand hand : position.getHands()) {
+                discardHand(hand);
+            }
             position.clearHands();
         }
+        activePositions = 0;
     }
 
     /** private helper method. Clears the dealer's hand. */
     private void clearDealerHand() {
+        discardHand(getDealerHand());
         dealerPosition.clearHand();
     }
 
+    /** private helper method. Returns the cards in a hand to the deck, so that a continuous shuffler can deal them
+     * again. */
+    private void discardHand(Hand hand) {
+        ArrayList<Card> cards = hand.getCards();
+        for(int i = 0; i < cards.size(); i++) {
+            deck.discard(cards.get(i));
+        }
+    }
+
     /** deals first two cards to all active positions including the dealer. */
     private void dealOpeningCards() {
         dealToActivePositions();
@@ -261,77 +344,99 @@ public class Table {
         getDealerHand().receiveCard(deck.deal());
     }
 
-    /** deals a single card to each position that has a bet. */
+    /** deals a single card to each active hand. */
     private void dealToActivePositions() {
-        for(PlayerPosition position : playerPositionsIterable) {
-            for(PlayerHand hand : position.getHands()) {
-                if(hand.hasBet()) {
-                    hand.receiveCard(deck.deal());
-                }
-            }
+        for(PlayerHand hand : activeHands) {
+            hand.receiveCard(deck.deal());
         }
     }
 
-    /** sets the acting player for each hand at the table. This should usually be the default player. But if the
-     * default player has not bet on their own position, then the acting player is simply the first to have bet on that
-     * position. */
+    /** sets the acting player for the hand at each active position. This should usually be the default player. But if
+     * the default player has not bet on their own position, then the acting player is simply the first to have bet on
+     * that position. */
     public void determineActingPlayers() {
-        for(PlayerPosition position : playerPositionsIterable) {
-            for(PlayerHand hand : position.getHands()) {
-                if(hand.hasBet()) {
-                    if(position.isDefaultPlayerInHand()) {
-                        hand.setActingPlayer(position.getDefaultPlayer());
-                    } else {
-                        hand.setActingPlayer(hand.getPairs().getFirst().getKey());
-                    }
-                }
+        for(long positions = activePositions; positions != 0; positions &= positions - 1) {
+            PlayerPosition position = playerPositionsIterable.get(Long.numberOfTrailingZeros(positions));
+            PlayerHand hand = position.getHands().getFirst();
+            if(position.isDefaultPlayerInHand()) {
+                hand.setActingPlayer(position.getDefaultPlayer());
+            } else {
+                hand.setActingPlayer(players.get(hand.getLedger().getPlayerId(0)));
             }
         }
     }
 
-    /** deals a card to a hand before setting its value. */
+    /** deals a card to a hand before setting its value. The second card of a hand left with one card by a split
+     * completes its opening two cards rather than counting as a hit, so the hand can still double. */
     public void hit(Hand hand) {
         if(!hand.isBust()) {
+            boolean isOpeningCard = hand.getCardCount() < 2;
             hand.receiveCard(deck.deal());
-            hand.setHandValue();
-            hand.setHasHit(true);
+            if(!isOpeningCard) {
+                hand.setHasHit(true);
+            }
         } else {
-            System.out.println("BUST!");
+            listener.onBust();
         }
     }
 
-    /** calculates the hand value for all active hands at the table. */
-    private void calculateHandValues() {
-        for(PlayerHand hand : getActiveHands()) {
-            hand.setHandValue();
+    /** executes the dealer's strategy. Each decision is computed once per draw. */
+    public void executeDealerStrategy() {
+        Action action = recordDealerDecision(dealer.executeStrategy());
+        while(action != Action.STAND) {
+            handleDealerAction(action);
+            action = recordDealerDecision(dealer.executeStrategy());
         }
-        getDealerHand().setHandValue();
+        printDealerHand();
     }
 
-    /** executes the dealer's strategy. */
-    public void executeDealerStrategy() {
-        while(!Objects.equals(dealer.executeStrategy(), STAND)) {
-            handleDealerAction(dealer.executeStrategy());
+    /** emits a dealer decision event if the flight recorder is recording them. Returns the action unchanged. */
+    private Action recordDealerDecision(Action action) {
+        DealerDecisionEvent event = new DealerDecisionEvent();
+        if(event.shouldCommit()) {
+            DealerHand hand = getDealerHand();
+            event.handValue = hand.getHandValue();
+            event.soft = hand.isSoft();
+            event.action = action.name();
+            event.commit();
+        }
+        return action;
+    }
+
+    /** emits a player decision event if the flight recorder is recording them. */
+    private void recordPlayerDecision(PlayerHand playerHand, DealerHand dealerHand, Action action) {
+        PlayerDecisionEvent event = new PlayerDecisionEvent();
+        if(event.shouldCommit()) {
+            event.position = playerHand.getPosition().getPositionNumber();
+            event.handValue = playerHand.getHandValue();
+            event.soft = playerHand.isSoft();
+            event.upcard = dealerHand.getCards().getFirst().getValue();
+            event.action = action.name();
+            event.commit();
         }
-        printDealerHand();
     }
 
-    /** executes the player's strategy. */
+    /** executes the player's strategy. Each decision is computed once before being dispatched. */
     public void executePlayerStrategy(PlayerHand playerHand, DealerHand dealerHand) {
         // defines the acting player in the hand
         Player actingPlayer = playerHand.getActingPlayer();
+        boolean isActing = true;
         // need to check that the hand is not bust to prevent null pointer exceptions in the strategy class
-        while(!playerHand.isBust()) {
-            System.out.println("---- PLAYER STRATEGY IS: " + actingPlayer.executeStrategy(playerHand, dealerHand)
-                    + " ----");
-            // players are only permitted to hit once after doubling down so the loop should terminate after doing so
-            if(actingPlayer.executeStrategy(playerHand, dealerHand).equals(DOUBLE)) {
-                handlePlayerAction(actingPlayer, playerHand, actingPlayer.executeStrategy(playerHand, dealerHand));
-                break;
-            } else if(actingPlayer.executeStrategy(playerHand, dealerHand).equals(STAND)) {
-                break;
-            } else {
-                handlePlayerAction(actingPlayer, playerHand, actingPlayer.executeStrategy(playerHand, dealerHand));
+        while(isActing && !playerHand.isBust()) {
+            Action action = actingPlayer.executeStrategy(playerHand, dealerHand);
+            listener.onPlayerDecision(playerHand, action);
+            recordPlayerDecision(playerHand, dealerHand, action);
+            switch (action) {
+                case STAND:
+                    isActing = false;
+                    break;
+                case DOUBLE:
+                    // players are only permitted to hit once after doubling down so the loop terminates after doing so
+                    handlePlayerAction(actingPlayer, playerHand, action);
+                    isActing = false;
+                    break;
+                default:
+                    handlePlayerAction(actingPlayer, playerHand, action);
             }
         }
         printActivePlayerHands();
@@ -346,13 +451,13 @@ public class Table {
         }
     }
 
-    public void handleDealerAction(String action) {
-        if(action.equals(HIT)) {
+    public void handleDealerAction(Action action) {
+        if(action == Action.HIT) {
             hit(dealer.getPosition().getHand());
         }
     }
 
-    public void handlePlayerAction(Player player, PlayerHand hand, String action) {
+    public void handlePlayerAction(Player player, PlayerHand hand, Action action) {
         switch (action) {
             case HIT:
                 hit(hand);
@@ -364,107 +469,93 @@ public class Table {
                 splitCount++;
                 break;
             case DOUBLE:
-                // book double down bet
-                bookDoubleDownBet(player, hand.getPosition(), hand);
+                // book double down bet. Only accepted bets are counted, since the chart may call for a double on a
+                // hand that has already hit
+                if(bookDoubleDownBet(player, hand.getPosition(), hand)) {
+                    doubleCount++;
+                }
                 hit(hand);
                 break;
             case INSURANCE:
                 // book insurance bet
-                System.out.println("----INSURANCE BET BOOKED!----");
+                listener.onInsuranceBooked();
                 bookInsuranceBet(player, hand.getPosition(), hand, DEFAULT_PLAYER_INSURANCE_BET);
                 break;
-            case STAND: {}
+            case STAND:
+            case NO_SPLIT:
                 // do nothing
         }
     }
 
-    /** processes the non-insurance payouts for each active hand at the table. */
-    private void handleRegularPayouts() {
-        for(PlayerHand hand : getActiveHands()) {
-            for(Map.Entry<Player, Bet> pair : hand.getPairs()) {
-                if(handlePlayerWin(hand, pair)) {
-                    // avoid double counting bets in single player games
-                    if(isStandardBet(pair.getValue()))
-                        playerWinCount++;
-                }
-                else if(handlePlayerPush(hand, pair)) {
-                    if(isStandardBet(pair.getValue()))
-                        pushCount++;
-                }
-                else if(handlePlayerLoss(hand, pair)) {
-                    if(isStandardBet(pair.getValue())) {
-                        playerLossCount++;
-                    }
-                }
-            }
-        }
-    }
-
-    /** private helper method. Determines whether a given bet is standard or not. */
-    private boolean isStandardBet(Bet bet) {
-        return bet.getClass().equals(Bet.class);
-    }
-
-    /** process a player's bet on a hand if it wins against the dealer. */
-    public boolean handlePlayerWin(PlayerHand hand, Map.Entry<Player, Bet> pair) {
-        if(!hand.isBust() && (getDealerHand().isBust() || hand.getHandValue() >
-                getDealerHand().getHandValue())) {
-            if(!(pair.getValue() instanceof InsuranceBet)) {
-                double payout;
-                // blackjack pays out for natural blackjacks only
-                if(hand.getHandValue() == BLACKJACK_CONSTANT && hand.getCards().size() == 2) {
-                    payout = pair.getValue().getAmount() * (1 +
-                            ((double) DEFAULT_BLACKJACK_PAYOUT_DENOMINATOR / DEFAULT_BLACKJACK_PAYOUT_NUMERATOR));
-                    blackjackCount++;
+    /** settles every bet at the table in a single pass. The dealer's outcome is read once, each active hand is
+     * classified against it once, and every entry in the hand's ledger is then settled by its kind: standard and
+     * double bets from the hand's outcome, insurance from whether the dealer holds a natural blackjack. The player is
+     * handed back their stake plus winnings (bets are paid for when they are booked), the house's net result is
+     * credited in one transfer, and the table's counters are updated once at the end. Only standard bets are counted
+     * so that doubles and insurance do not count as extra hands. */
+    private void settleBets() {
+        DealerHand dealerHand = getDealerHand();
+        int dealerValue = dealerHand.getHandValue();
+        boolean dealerNatural = dealerHand.isNaturalBlackjack();
+        long houseNet = 0;
+        int wins = 0;
+        int pushes = 0;
+        int losses = 0;
+        int blackjacks = 0;
+
+        for(PlayerHand hand : activeHands) {
+            HandOutcome outcome = HandOutcome.classify(hand, dealerValue);
+            BetLedger ledger = hand.getLedger();
+            for(int entry = 0; entry < ledger.size(); entry++) {
+                Player player = players.get(ledger.getPlayerId(entry));
+                BetKind kind = ledger.getKind(entry);
+                long amount = ledger.getAmount(entry);
+                long returned;
+                if(kind == BetKind.INSURANCE) {
+                    returned = dealerNatural ? amount * (1 + DEFAULT_INSURANCE_RATIO) : 0;
                 } else {
-                    payout = pair.getValue().getAmount() * (1 + DEFAULT_PAYOUT_RATIO);
+                    returned = outcome.returnOn(amount);
+                    if(kind == BetKind.STANDARD) {
+                        switch (outcome) {
+                            case BLACKJACK:
+                                blackjacks++;
+                                wins++;
+                                break;
+                            case WIN:
+                                wins++;
+                                break;
+                            case PUSH:
+                                pushes++;
+                                break;
+                            case LOSS:
+                                losses++;
+                        }
+                    }
                 }
-                dealer.dispenseChips(payout - pair.getValue().getAmount());
-                pair.getKey().receiveChips(payout);
-            }
-            return true;
-        } else {
-            return false;
-        }
-    }
-
-    /** processes a player's bet on a hand if it pushes with the dealer. (i.e. the two are equal in value) */
-    public boolean handlePlayerPush(PlayerHand hand, Map.Entry<Player, Bet> pair) {
-        if(!hand.isBust() && hand.getHandValue() == getDealerHand().getHandValue()) {
-            if(!(pair.getValue() instanceof InsuranceBet)) {
-                // refund chips;
-                pair.getKey().receiveChips(pair.getValue().getAmount());
+                player.receiveChipUnits(returned);
+                houseNet += amount - returned;
+                recordSettlement(hand, kind, amount, returned - amount, dealerValue);
             }
-            return true;
-        } else {
-            return false;
         }
-    }
 
-    /** processes a player's bet on a hand if it loses against the dealer. */
-    public boolean handlePlayerLoss(PlayerHand hand, Map.Entry<Player, Bet> pair) {
-        if(hand.isBust() || (!getDealerHand().isBust() && getDealerHand().getHandValue() > hand.getHandValue())) {
-            dealer.receiveChips(pair.getValue().getAmount());
-            return true;
-        } else {
-            return false;
-        }
-    }
-
-    /** processes the insurance payouts for each active hand at the table. */
-    private void handleInsurancePayouts() {
-        for(PlayerHand hand : getActiveHands()) {
-            for(Map.Entry<Player, Bet> pair : hand.getPairs()) {
-                if(pair.getValue() instanceof InsuranceBet) {
-                    if(getDealerHand().getHandValue() == BLACKJACK_CONSTANT && hand.hasInsuranceOption(getDealerHand())) {
-                        double payout = pair.getValue().getAmount() * (1 + DEFAULT_INSURANCE_RATIO);
-                        dealer.dispenseChips(payout - pair.getValue().getAmount());
-                        pair.getKey().receiveChips(payout);
-                    } else {
-                        dealer.receiveChips((pair.getValue().getAmount()));
-                    }
-                }
-            }
+        dealer.receiveChipUnits(houseNet);
+        playerWinCount += wins;
+        pushCount += pushes;
+        playerLossCount += losses;
+        blackjackCount += blackjacks;
+    }
+
+    /** emits a settlement event if the flight recorder is recording them. */
+    private void recordSettlement(PlayerHand hand, BetKind kind, long amount, long netResult, int dealerValue) {
+        SettlementEvent event = new SettlementEvent();
+        if(event.shouldCommit()) {
+            event.position = hand.getPosition().getPositionNumber();
+            event.betType = kind.name();
+            event.handValue = hand.getHandValue();
+            event.dealerValue = dealerValue;
+            event.amount = Chips.toChips(amount);
+            event.netResult = Chips.toChips(netResult);
+            event.commit();
         }
     }
 
@@ -514,76 +605,72 @@ public class Table {
         return splitCount;
     }
 
-    /** may be required if a player decides to leave the game. */
+    public int getDoubleCount() {
+        return doubleCount;
+    }
+
+    public int getReshuffleCount() {
+        return reshuffleCount;
+    }
+
+    /** may be required if a player decides to leave the game. Players are re-registered under their new indices. */
     public void setPlayers(ArrayList<Player> players) {
         this.players = players;
+        for(int i = 0; i < players.size(); i++) {
+            players.get(i).setId(i);
+        }
+        this.playerBalances = new long[players.size()];
+        createBetProcessors();
     }
 
-    // prints welcome message
-    public void printWelcomeMessage() {
-        System.out.println("********************************");
+    public RoundListener getListener() {
+        return listener;
+    }
 
-        System.out.println("***** WELCOME TO BLACKJACK *****");
+    /** replaces the listener which receives the table's round events. Simulations default to a silent listener while
+     * interactive games default to the console. */
+    public void setListener(RoundListener listener) {
+        this.listener = listener;
+        createBetProcessors();
+    }
 
-        System.out.println("********************************");
+    /** creates the table's bet processors. Processors hold the table's listener and players, so they are recreated
+     * whenever either is replaced. */
+    private void createBetProcessors() {
+        standardBetProcessor = new StandardBetProcessor(isSimulation, listener, players, playerPositionsIterable);
+        insuranceBetProcessor = new InsuranceBetProcessor(isSimulation, listener, players, playerPositionsIterable);
+        doubleBetProcessor = new DoubleBetProcessor(isSimulation, listener, players, playerPositionsIterable);
+        splitBetProcessor = new SplitBetProcessor(isSimulation, listener, players, playerPositionsIterable,
+                activeHands);
+    }
+
+    // prints welcome message
+    public void printWelcomeMessage() {
+        listener.onWelcome();
     }
 
     // prints new round message
     public void printNewRoundMessage() {
-        System.out.print("\n");
-        System.out.println("---- NEW ROUND ----");
+        listener.onNewRound();
     }
 
     // prints all active player hands at the table
     public void printActivePlayerHands() {
-        for(PlayerHand hand : getActiveHands()) {
-            System.out.println("Position: " + hand.getPosition().getPositionNumber());
-            System.out.println("----" + " Hand: " + hand + " Hand value: " + hand.getHandValue() + ".");
-            if (hand.isBust()) {
-                System.out.println("BUST!");
-            }
-        }
+        listener.onActiveHands(getActiveHands());
     }
 
     // prints the dealer's first card and its corresponding value
     public void printDealerFirstCard() {
-        System.out.println("Position: 0 (Dealer)");
-        System.out.println("----" + " Hand: " + getDealerHand().getCards().getFirst() + " Hand Value: " +
-                getDealerHand().getCards().getFirst().getValue() + "." + "\n");
+        listener.onDealerFirstCard(getDealerHand());
     }
 
     // print the dealer's hand
     public void printDealerHand() {
-        System.out.println("Position: 0 (Dealer)");
-        System.out.println("----" + " Hand: " + getDealerHand().toString() + " Hand Value: " +
-                getDealerHand().getHandValue()
-                + "." + "\n");
-        if(getDealerHand().isBust()) {
-            System.out.println("BUST!");
-        }
+        listener.onDealerHand(getDealerHand());
     }
 
     // prints results
     public void printHandResults() {
-        System.out.println("---- RESULTS ----");
-        printPlayerResults();
-        printHouseResults();
-        System.out.println("---- END OF ROUND ----");
-    }
-
-    public void printPlayerResults() {
-        for(Player player : players) {
-            System.out.println("Player: " + player);
-            System.out.println("Starting Balance: " + playerBalances.get(player).intValue() + " Closing Balance: "
-                    + (int) player.getChips());
-            System.out.println("Profit (Loss): " + (int) (player.getChips() - playerBalances.get(player)) + "\n");
-        }
-    }
-
-    public void printHouseResults() {
-        System.out.println("Player: House");
-        System.out.println("Starting Balance: " + houseBalance.intValue() + " Closing Balance: "
-                + (int) dealer.getChips());
-        System.out.println("Profit (Loss): " + (int) (dealer.getChips() - houseBalance) + "\n");
+        listener.onHandResults(players, playerBalances, dealer, houseBalance);
     }
 }
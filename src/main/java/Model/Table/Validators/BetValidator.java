@@ -1,66 +1,61 @@
 package Model.Table.Validators;
 
 import java.util.ArrayList;
-import java.util.Map;
 import Model.Actors.Player;
-import Model.Table.Bets.Bet;
+import Model.Table.Bets.BetKind;
 import Model.Table.Hands.PlayerHand;
+import Model.Table.Listeners.RoundListener;
 import Model.Table.Positions.PlayerPosition;
 
 public abstract class BetValidator {
 
-    protected boolean isSimulation;
-    protected ArrayList<Player> players;
-    protected ArrayList<PlayerPosition> playerPositions;
-    protected PlayerHand hand;
+    protected final boolean isSimulation;
+    protected final ArrayList<Player> players;
+    protected final ArrayList<PlayerPosition> playerPositions;
+    protected final RoundListener listener;
 
-    public BetValidator(boolean isSimulation, ArrayList<Player> players, ArrayList<PlayerPosition> playerPositions,
-                        PlayerHand hand) {
+    public BetValidator(boolean isSimulation, RoundListener listener, ArrayList<Player> players,
+                        ArrayList<PlayerPosition> playerPositions) {
         this.isSimulation = isSimulation;
+        this.listener = listener;
         this.players = players;
         this.playerPositions = playerPositions;
-        this.hand = hand;
     }
 
     /** abstract validation method. Precise implementation varies depending on the type of validator. */
-    public abstract boolean isValid();
+    public abstract boolean isValid(Player player, PlayerPosition position, PlayerHand hand, long amount);
 
-    /** validates a given player by verifying that they are registered at the table. */
+    /** validates a given player by verifying that they are registered at the table. Players are registered under
+     * their id, which is their index in the table's list of players. */
     protected boolean isValidPlayer(Player player) {
-        for(Player playerFromList : players) {
-            if(player.equals(playerFromList))
-                return true;
-        }
-        return false;
+        int id = player.getId();
+        return id >= 0 && id < players.size() && players.get(id) == player;
     }
 
-    /** validates a given position by verifying that it is registered at the table. */
+    /** validates a given position by verifying that it is registered at the table. Positions are numbered from one
+     * in the order they are stored. */
     protected boolean isValidPosition(PlayerPosition position) {
-        for(PlayerPosition positionFromList : playerPositions) {
-            if(position.equals(positionFromList))
-                return true;
-        }
-        return false;
+        int index = position.getPositionNumber() - 1;
+        return index >= 0 && index < playerPositions.size() && playerPositions.get(index) == position;
     }
 
-    /** validates that the player has sufficient chips to place a particular bet. */
-    protected boolean hasSufficientChips(Player player, double amount) {
-        return player.getChips() >= amount;
+    /** validates that the player has sufficient chips to place a particular bet (in chip sub-units). */
+    protected boolean hasSufficientChips(Player player, long amount) {
+        return player.getChipUnits() >= amount;
     }
 
     /** validates that the betting player has an existing bet on the given hand. */
-    public boolean hasExistingBet(Player player) {
-        return getOriginalBet(player) != 0;
+    public boolean hasExistingBet(Player player, PlayerHand hand) {
+        if(findOriginalBet(player, hand) == 0) {
+            listener.onExistingBetNotFound();
+            return false;
+        }
+        return true;
     }
 
-    /** returns the amount corresponding to the player's original bet on the hand. */
-    public double getOriginalBet(Player player) {
-        for(Map.Entry<Player, Bet> pair : hand.getPairs()) {
-            if(pair.getKey().equals(player)) {
-                return pair.getValue().getAmount();
-            }
-        }
-        System.out.println("Existing bet not found. New bet invalid.");
-        return 0;
+    /** returns the amount (in chip sub-units) of the player's original (standard) bet on the hand, or zero if they
+     * have not bet on it. */
+    public long findOriginalBet(Player player, PlayerHand hand) {
+        return hand.getLedger().getAmount(player.getId(), BetKind.STANDARD);
     }
 }
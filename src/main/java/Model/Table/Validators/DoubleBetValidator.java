@@ -1,58 +1,45 @@
 package Model.Table.Validators;
 
 import java.util.ArrayList;
-import java.util.Map;
 import Model.Actors.Player;
-import Model.Table.Bets.Bet;
-import Model.Table.Bets.DoubleBet;
+import Model.Table.Bets.BetKind;
 import Model.Table.Hands.PlayerHand;
 import Model.Table.Positions.PlayerPosition;
+import Model.Table.Listeners.RoundListener;
 
 public class DoubleBetValidator extends BetValidator {
 
-    protected Player player;
-    protected PlayerPosition position;
-
-    public DoubleBetValidator(boolean isSimulation, ArrayList<Player> players, ArrayList<PlayerPosition> playerPositions,
-                                 Player player, PlayerPosition position, PlayerHand hand) {
-        super(isSimulation, players, playerPositions, hand);
-        this.player = player;
-        this.position = position;
+    public DoubleBetValidator(boolean isSimulation, RoundListener listener, ArrayList<Player> players,
+                              ArrayList<PlayerPosition> playerPositions) {
+        super(isSimulation, listener, players, playerPositions);
     }
 
-    public boolean isValid() {
+    public boolean isValid(Player player, PlayerPosition position, PlayerHand hand, long amount) {
         if(isSimulation) {
-            return isValidSimulationDoubleBet();
+            return isValidSimulationDoubleBet(player, hand);
         } else {
-            return isValidDoubleBet();
+            return isValidDoubleBet(player, position, hand);
         }
     }
 
-    /** ensures that the player has an existing bet and that they have not doubled already. */
-    private boolean isValidSimulationDoubleBet() {
-        return isValidPlayer(player) && isValidPosition(position) && hasExistingBet(player) && hasNotHit()
-                && hasNotDoubled();
-    }
-
-    /** ensures that all the requirements for a simulation bet are met AND that the player has sufficient chips to post
-     * the bet. */
-    private boolean isValidDoubleBet() {
-        return isValidSimulationDoubleBet() && hasSufficientChips(player, getOriginalBet(player)); // and has sufficient chips
+    /** ensures that the player has an existing bet and that they have not doubled already. The player and position
+     * are trusted in simulations. */
+    private boolean isValidSimulationDoubleBet(Player player, PlayerHand hand) {
+        return hasExistingBet(player, hand) && !hand.hasHit() && hasNotDoubled(player, hand);
     }
 
-    /** validates that the given hand has not yet been hit. Opening hands should have a size of two while split hands
-     * should have a size of one. */
-    private boolean hasNotHit() {
-        return !hand.hasHit();
+    /** ensures that the player and position are registered, that all the requirements for a simulation bet are met,
+     * AND that the player has sufficient chips to post the bet. */
+    private boolean isValidDoubleBet(Player player, PlayerPosition position, PlayerHand hand) {
+        return isValidPlayer(player) && isValidPosition(position) && isValidSimulationDoubleBet(player, hand)
+                && hasSufficientChips(player, findOriginalBet(player, hand));
     }
 
     /** validates that a particular player has not yet doubled on the given hand. */
-    private boolean hasNotDoubled() {
-        for(Map.Entry<Player, Bet> pair : hand.getPairs()) {
-            if(pair.getKey().equals(player) && pair.getValue() instanceof DoubleBet) {
-                System.out.println("Player has already used this action. Double down bet invalid.");
-                return false;
-            }
+    private boolean hasNotDoubled(Player player, PlayerHand hand) {
+        if(hand.getLedger().hasBet(player.getId(), BetKind.DOUBLE)) {
+            listener.onActionAlreadyUsed();
+            return false;
         }
         return true;
     }
@@ -4,42 +4,39 @@ import java.util.ArrayList;
 import Model.Actors.Player;
 import Model.Table.Hands.PlayerHand;
 import Model.Table.Positions.PlayerPosition;
+import Model.Table.Listeners.RoundListener;
 
 public class SplitBetValidator extends BetValidator {
 
-    protected Player player;
-    protected PlayerPosition position;
-
-    public SplitBetValidator(boolean isSimulation, ArrayList<Player> players, ArrayList<PlayerPosition> playerPositions,
-                              Player player, PlayerPosition position, PlayerHand hand) {
-        super(isSimulation, players, playerPositions, hand);
-        this.player = player;
-        this.position = position;
+    public SplitBetValidator(boolean isSimulation, RoundListener listener, ArrayList<Player> players,
+                             ArrayList<PlayerPosition> playerPositions) {
+        super(isSimulation, listener, players, playerPositions);
     }
 
-    public boolean isValid() {
+    public boolean isValid(Player player, PlayerPosition position, PlayerHand hand, long amount) {
         if(isSimulation) {
-            return isValidSimulationSplit();
+            return isValidSimulationSplit(player, hand);
         } else {
-            return isValidStandardSplit();
+            return isValidStandardSplit(player, position, hand);
         }
     }
 
-    /** ensures that the player has an existing bet and that the hand's split option is live. */
-    private boolean isValidSimulationSplit() {
-        return isValidPlayer(player) && isValidPosition(position) && hasExistingBet(player) && hasNotHit() &&
-                hand.hasSplitOption();
+    /** ensures that the player has an existing bet and that the hand's split option is live. The player and position
+     * are trusted in simulations. */
+    private boolean isValidSimulationSplit(Player player, PlayerHand hand) {
+        return hasExistingBet(player, hand) && hasNotHit(hand) && hand.hasSplitOption();
     }
 
-    /** ensures that all the requirements for a simulation bet are met AND that the player has sufficient chips to post
-     * the split bet. */
-    private boolean isValidStandardSplit() {
-        return isValidSimulationSplit() && hasSufficientChips(player, getOriginalBet(player));
+    /** ensures that the player and position are registered, that all the requirements for a simulation split are met,
+     * AND that the player has sufficient chips to post the split bet. */
+    private boolean isValidStandardSplit(Player player, PlayerPosition position, PlayerHand hand) {
+        return isValidPlayer(player) && isValidPosition(position) && isValidSimulationSplit(player, hand)
+                && hasSufficientChips(player, findOriginalBet(player, hand));
     }
 
     /** validates that the given hand has not yet been hit. Opening hands should have a size of two while split hands
      * should have a size of one. */
-    private boolean hasNotHit() {
-        return hand.getCards().size() < 3;
+    private boolean hasNotHit(PlayerHand hand) {
+        return hand.getCardCount() < 3;
     }
 }
@@ -2,50 +2,46 @@ package Model.Table.Validators;
 
 import java.util.ArrayList;
 import Model.Actors.Player;
+import Model.Chips;
+import Model.Table.Hands.PlayerHand;
 import Model.Table.Positions.PlayerPosition;
-import static Model.Constants.DEFAULT_MIN_BET_SIZE;
+import Model.Table.Listeners.RoundListener;
+import static Model.Constants.*;
 
 public class StandardBetValidator extends BetValidator {
 
-    private final Player player;
-    private final PlayerPosition position;
-    private final Double amount;
-
-    public StandardBetValidator(boolean isSimulation, ArrayList<Player> players, ArrayList<PlayerPosition> playerPositions,
-                                Player player, PlayerPosition position, Double amount) {
-        super(isSimulation, players, playerPositions, position.getHands().getFirst());
-        this.player = player;
-        this.position = position;
-        this.amount = amount;
+    public StandardBetValidator(boolean isSimulation, RoundListener listener, ArrayList<Player> players,
+                                ArrayList<PlayerPosition> playerPositions) {
+        super(isSimulation, listener, players, playerPositions);
     }
 
     /** determines if the given player, position, and bet amount are valid. */
-    public boolean isValid() {
+    public boolean isValid(Player player, PlayerPosition position, PlayerHand hand, long amount) {
         if(isSimulation) {
-            return isValidSimulationBet();
+            return isValidSimulationBet(amount);
         } else {
-            return isValidStandardBet();
+            return isValidStandardBet(player, position, amount);
         }
     }
 
     /** books a standard bet for a player on a given position for a given amount. To be called before the cards are
      * dealt. */
-    private boolean isValidStandardBet() {
+    private boolean isValidStandardBet(Player player, PlayerPosition position, long amount) {
         return isValidPlayer(player) && isValidPosition(position) && isValidBetSize(amount)
                 && hasSufficientChips(player, amount);
     }
 
     /** same as above but allows the player to overdraw on their stack. Required for collecting statistics such as
-     * average profit per hand and expected value as these can be negative. */
-    private boolean isValidSimulationBet() {
-        return isValidPlayer(player) && isValidPosition(position) && isValidBetSize(amount);
+     * average profit per hand and expected value as these can be negative. Simulations only ever bet with the
+     * table's own players and positions, so those are trusted rather than checked. */
+    private boolean isValidSimulationBet(long amount) {
+        return isValidBetSize(amount);
     }
 
     /** validates a given bet size by verifying that it is greater than the minimum allowed for a standard bet. */
-    private boolean isValidBetSize(double betAmount) {
-        if(betAmount < DEFAULT_MIN_BET_SIZE) {
-            System.out.println("Bet size of: " + (int) betAmount + " is less than the minimum bet size: "
-                    + DEFAULT_MIN_BET_SIZE + ".");
+    private boolean isValidBetSize(long betAmount) {
+        if(betAmount < (long) DEFAULT_MIN_BET_SIZE * CHIP_SCALE) {
+            listener.onBetBelowMinimum(Chips.toChips(betAmount));
             return false;
         } else {
             return true;
@@ -0,0 +1,71 @@
+package Tests;
+
+import Model.Table.Bets.BetKind;
+import Model.Table.Bets.BetLedger;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import static Model.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class BetLedgerTesting {
+
+    // testing instance variables
+    private final BetLedger ledger;
+
+    public BetLedgerTesting() {
+        ledger = new BetLedger();
+    }
+
+    /** tests that entries are stored in the order they are booked. */
+    @Order(1)
+    @Test
+    public void testEntryOrder() {
+        ledger.add(0, BetKind.STANDARD, 100);
+        ledger.add(1, BetKind.STANDARD, 50);
+        ledger.add(0, BetKind.DOUBLE, 100);
+        assertEquals(3, ledger.size());
+        assertEquals(1, ledger.getPlayerId(1));
+        assertEquals(BetKind.DOUBLE, ledger.getKind(2));
+        assertEquals(50, ledger.getAmount(1));
+    }
+
+    /** tests that a player's bets can be looked up by kind, and that missing bets are reported as absent. */
+    @Order(2)
+    @Test
+    public void testIndexedLookup() {
+        ledger.add(2, BetKind.STANDARD, 100);
+        ledger.add(2, BetKind.INSURANCE, 50);
+        assertEquals(100, ledger.getAmount(2, BetKind.STANDARD));
+        assertEquals(1, ledger.indexOf(2, BetKind.INSURANCE));
+        assertFalse(ledger.hasBet(2, BetKind.DOUBLE));
+        assertFalse(ledger.hasBet(0, BetKind.STANDARD));
+    }
+
+    /** tests that the ledger grows beyond its default capacity and past the default number of players. */
+    @Order(3)
+    @Test
+    public void testGrowth() {
+        int players = DEFAULT_TABLE_POSITIONS + 2;
+        for(int i = 0; i < players; i++) {
+            ledger.add(i, BetKind.STANDARD, i + 1);
+        }
+        assertTrue(players > DEFAULT_LEDGER_CAPACITY);
+        assertEquals(players, ledger.size());
+        assertEquals(players, ledger.getAmount(players - 1, BetKind.STANDARD));
+    }
+
+    /** tests that clearing the ledger removes every bet along with its lookup. */
+    @Order(4)
+    @Test
+    public void testClear() {
+        ledger.add(0, BetKind.STANDARD, 100);
+        ledger.add(0, BetKind.DOUBLE, 100);
+        ledger.clear();
+        assertTrue(ledger.isEmpty());
+        assertFalse(ledger.hasBet(0, BetKind.STANDARD));
+        assertFalse(ledger.hasBet(0, BetKind.DOUBLE));
+    }
+}
@@ -1,6 +1,12 @@
 package Tests;
 
+import java.util.SplittableRandom;
+import Model.Cards.Card;
+import Model.Cards.ContinuousShufflingDeck;
 import Model.Cards.Deck;
+import Model.Cards.DoubleBufferedDeck;
+import Model.Cards.InfiniteDeck;
+import Model.Cards.LazyDeck;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -34,4 +40,92 @@ public class DeckTesting {
         assertEquals(DEFAULT_NUMBER_OF_DECKS * NUMBER_OF_SUITS * NUMBER_OF_CARDS_PER_SUIT,
                 deck.getDeck().size() - 1);
     }
+
+    /** tests that a double-buffered deck deals the same shoes as a plain deck built from the same seed, across several
+     * reshuffles. */
+    @Order(3)
+    @Test
+    public void testDoubleBufferedDeck() {
+        Deck plain = new Deck(DEFAULT_NUMBER_OF_DECKS, new SplittableRandom(42));
+        Deck buffered = new DoubleBufferedDeck(DEFAULT_NUMBER_OF_DECKS, new SplittableRandom(42));
+        for(int shoe = 0; shoe < 3; shoe++) {
+            while(plain.size() >= NEW_DECK_THRESHOLD) {
+                assertSame(plain.deal(), buffered.deal());
+            }
+            plain.createNewDeck();
+            buffered.createNewDeck();
+            assertEquals(plain.size(), buffered.size());
+        }
+        assertEquals(plain.getDeck(), buffered.getDeck());
+    }
+
+    /** tests that a lazy deck deals the same first shoe as a plain deck built from the same seed, and that rebuilding
+     * it returns every card. */
+    @Order(4)
+    @Test
+    public void testLazyDeck() {
+        Deck plain = new Deck(DEFAULT_NUMBER_OF_DECKS, new SplittableRandom(42));
+        Deck lazy = new LazyDeck(DEFAULT_NUMBER_OF_DECKS, new SplittableRandom(42));
+        int[] composition = lazy.getComposition();
+        while(plain.size() >= NEW_DECK_THRESHOLD) {
+            assertSame(plain.deal(), lazy.deal());
+        }
+        assertTrue(lazy.needsNewDeck());
+        lazy.createNewDeck();
+        assertEquals(DEFAULT_NUMBER_OF_DECKS * NUMBER_OF_CARDS_PER_DECK, lazy.size());
+        assertArrayEquals(composition, lazy.getComposition());
+    }
+
+    /** tests that a continuous shuffling deck never asks for a new shoe and that discarded cards return to it, leaving
+     * the composition of the machine unchanged after each round. */
+    @Order(5)
+    @Test
+    public void testContinuousShufflingDeck() {
+        Deck deck = new ContinuousShufflingDeck(DEFAULT_NUMBER_OF_DECKS, new SplittableRandom(42));
+        int[] composition = deck.getComposition();
+        Card[] round = new Card[NEW_DECK_THRESHOLD];
+        for(int i = 0; i < 1000; i++) {
+            for(int j = 0; j < round.length; j++) {
+                round[j] = deck.deal();
+            }
+            assertFalse(deck.needsNewDeck());
+            for(Card card : round) {
+                deck.discard(card);
+            }
+            assertArrayEquals(composition, deck.getComposition());
+        }
+        assertEquals(DEFAULT_NUMBER_OF_DECKS * NUMBER_OF_CARDS_PER_DECK, deck.size());
+    }
+
+    /** tests that an infinite deck drawn from a partly dealt source deals each card value in proportion to the cards
+     * left in the source, and is never depleted. */
+    @Order(6)
+    @Test
+    public void testInfiniteDeck() {
+        Deck source = new Deck(1, new SplittableRandom(42));
+        for(int i = 0; i < 20; i++) {
+            source.deal();
+        }
+        int[] composition = source.getComposition();
+        Deck deck = new InfiniteDeck(source, new SplittableRandom(42));
+        int draws = 320_000;
+        int[] counts = new int[ACE_UPPER_VALUE + 1];
+        for(int i = 0; i < draws; i++) {
+            counts[deck.deal().getValue()]++;
+        }
+        for(int value = 0; value <= ACE_UPPER_VALUE; value++) {
+            double expected = (double) draws * composition[value] / source.size();
+            assertEquals(expected, counts[value], 5 * Math.sqrt(expected));
+        }
+        assertFalse(deck.needsNewDeck());
+        assertArrayEquals(composition, deck.getComposition());
+    }
+
+    /** tests that the composition of a full shoe matches that of a freshly built deck. */
+    @Order(7)
+    @Test
+    public void testFullShoeComposition() {
+        int[] composition = new Deck(DEFAULT_NUMBER_OF_DECKS).getComposition();
+        assertArrayEquals(composition, Deck.composition(DEFAULT_NUMBER_OF_DECKS));
+    }
 }
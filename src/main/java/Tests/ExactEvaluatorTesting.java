@@ -0,0 +1,81 @@
+package Tests;
+
+import Model.Actors.Strategies.Action;
+import Model.Analysis.ExactEvaluator;
+import Model.Analysis.ExpectedValues;
+import Model.Cards.Deck;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import static Model.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ExactEvaluatorTesting {
+
+    // testing instance variables
+    private final ExactEvaluator evaluator;
+    private static final double TOLERANCE = 1e-9;
+
+    public ExactEvaluatorTesting() {
+        evaluator = ExactEvaluator.of(new Deck(DEFAULT_NUMBER_OF_DECKS));
+    }
+
+    /** tests that the dealer's final totals form a complete distribution for every upcard. */
+    @Order(1)
+    @Test
+    public void testDealerProbabilitiesSumToOne() {
+        for(int upcard = 2; upcard <= ACE_UPPER_VALUE; upcard++) {
+            double total = 0;
+            for(double probability : evaluator.dealerProbabilities(upcard)) {
+                total += probability;
+            }
+            assertEquals(1, total, TOLERANCE);
+        }
+    }
+
+    /** tests the dealer's distribution against a shoe whose outcome is certain. A shoe of tens can only give the dealer
+     * a 20, which the player's 20 pushes with. */
+    @Order(2)
+    @Test
+    public void testDealerProbabilitiesForKnownShoe() {
+        int[] composition = new int[ACE_UPPER_VALUE + 1];
+        composition[10] = 16;
+        ExactEvaluator tens = new ExactEvaluator(composition);
+        double[] probabilities = tens.dealerProbabilities(10);
+        assertEquals(1, probabilities[20 - DEFAULT_DEALER_DRAW_VALUE], TOLERANCE);
+        assertEquals(0, tens.evaluate(10, 10, 10).getStand(), TOLERANCE);
+        assertEquals(-1, tens.evaluate(10, 10, 10).getHit(), TOLERANCE);
+    }
+
+    /** tests that the best actions agree with basic strategy for hands that are not close calls. */
+    @Order(3)
+    @Test
+    public void testBestActions() {
+        assertEquals(Action.STAND, evaluator.evaluate(10, 10, 6).getBestAction());
+        assertEquals(Action.HIT, evaluator.evaluate(10, 6, 10).getBestAction());
+        assertEquals(Action.DOUBLE, evaluator.evaluate(6, 5, 6).getBestAction());
+        assertEquals(Action.SPLIT, evaluator.evaluate(ACE_UPPER_VALUE, ACE_UPPER_VALUE, 6).getBestAction());
+    }
+
+    /** tests that splitting is only valued for pairs, and that a natural is paid at the blackjack ratio. */
+    @Order(4)
+    @Test
+    public void testSplitAndNatural() {
+        ExpectedValues values = evaluator.evaluate(10, 9, 7);
+        assertTrue(Double.isNaN(values.getSplit()));
+        ExpectedValues natural = evaluator.evaluate(ACE_UPPER_VALUE, 10, 6);
+        assertTrue(natural.getStand() > 1);
+    }
+
+    /** tests that evaluating cards that are not left in the shoe is rejected. */
+    @Order(5)
+    @Test
+    public void testMissingCards() {
+        int[] composition = new int[ACE_UPPER_VALUE + 1];
+        composition[10] = 16;
+        ExactEvaluator tens = new ExactEvaluator(composition);
+        assertThrows(IllegalArgumentException.class, () -> tens.evaluate(ACE_UPPER_VALUE, 10, 10));
+    }
+}
@@ -0,0 +1,104 @@
+package Tests;
+
+import Model.Cards.Card;
+import Model.Table.Hands.Hand;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import static Model.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HandTesting {
+
+    // testing instance variables
+    private final Hand hand;
+
+    public HandTesting() {
+        hand = new Hand();
+    }
+
+    // private helper method
+    private void receive(int... ranks) {
+        for(int rank : ranks) {
+            hand.receiveCard(Card.of(rank, 0));
+        }
+    }
+
+    /** tests that a hand without aces is valued as the sum of its cards. */
+    @Order(1)
+    @Test
+    public void testHardHandValue() {
+        receive(10, 6);
+        assertEquals(16, hand.getHandValue());
+        assertFalse(hand.isSoft());
+    }
+
+    /** tests that a single ace is counted at its upper value when doing so does not bust the hand. */
+    @Order(2)
+    @Test
+    public void testSoftHandValue() {
+        receive(ACE_RANK, 6);
+        assertEquals(17, hand.getHandValue());
+        assertTrue(hand.isSoft());
+    }
+
+    /** tests that an ace drops to its lower value once the upper value would bust the hand. */
+    @Order(3)
+    @Test
+    public void testSoftHandBecomesHard() {
+        receive(ACE_RANK, 6, KING_RANK);
+        assertEquals(17, hand.getHandValue());
+        assertFalse(hand.isSoft());
+    }
+
+    /** tests that only one of several aces is counted at its upper value. */
+    @Order(4)
+    @Test
+    public void testMultipleAces() {
+        receive(ACE_RANK, ACE_RANK, 9);
+        assertEquals(21, hand.getHandValue());
+        assertEquals(3, hand.getCardCount());
+    }
+
+    /** tests that an ace and a ten-valued card make a natural blackjack. */
+    @Order(5)
+    @Test
+    public void testNaturalBlackjack() {
+        receive(ACE_RANK, KING_RANK);
+        assertTrue(hand.isNaturalBlackjack());
+    }
+
+    /** tests that removing a card restores the previous running totals. */
+    @Order(6)
+    @Test
+    public void testRemoveLastCard() {
+        receive(8, ACE_RANK);
+        hand.removeLastCard();
+        assertEquals(8, hand.getHandValue());
+        assertFalse(hand.hasAce());
+        assertEquals(1, hand.getCardCount());
+    }
+
+    /** tests that a hand is bust once its hard value passes the blackjack constant. */
+    @Order(7)
+    @Test
+    public void testBust() {
+        receive(10, 6, 9);
+        assertTrue(hand.isBust());
+    }
+
+    /** tests that clearing a hand leaves it in the same state as a new hand, so that hands can be reused. */
+    @Order(8)
+    @Test
+    public void testClear() {
+        receive(ACE_RANK, 6);
+        hand.setHasHit(true);
+        hand.clear();
+        assertEquals(0, hand.getHandValue());
+        assertEquals(0, hand.getCardCount());
+        assertFalse(hand.isSoft());
+        assertFalse(hand.hasHit());
+    }
+}
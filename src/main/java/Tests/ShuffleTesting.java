@@ -0,0 +1,136 @@
+package Tests;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import Model.Cards.Shuffles.*;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import static Model.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ShuffleTesting {
+
+    // testing constants. Critical values of the chi-square distribution at a significance level of 0.001
+    private static final long SEED = 7;
+    private static final double CRITICAL_VALUE_23_DEGREES = 49.73;
+    private static final double CRITICAL_VALUE_51_DEGREES = 87.97;
+
+    // private helper method. Returns an ordered buffer of the given size
+    private byte[] orderedCards(int size) {
+        byte[] cards = new byte[size];
+        for(int i = 0; i < size; i++) {
+            cards[i] = (byte) (i % NUMBER_OF_CARDS_PER_DECK);
+        }
+        return cards;
+    }
+
+    // private helper method. Returns the chi-square statistic of the position the first card ends up in
+    private double positionChiSquare(Shuffler shuffler, int trials) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] counts = new long[NUMBER_OF_CARDS_PER_DECK];
+        for(int trial = 0; trial < trials; trial++) {
+            byte[] cards = orderedCards(NUMBER_OF_CARDS_PER_DECK);
+            shuffler.shuffle(cards, random);
+            for(int i = 0; i < cards.length; i++) {
+                if(cards[i] == 0) {
+                    counts[i]++;
+                }
+            }
+        }
+        return chiSquare(counts, (double) trials / NUMBER_OF_CARDS_PER_DECK);
+    }
+
+    // private helper method
+    private double chiSquare(long[] counts, double expected) {
+        double statistic = 0;
+        for(long count : counts) {
+            statistic += (count - expected) * (count - expected) / expected;
+        }
+        return statistic;
+    }
+
+    /** tests that all 24 orderings of four cards are equally likely under Fisher-Yates. */
+    @Order(1)
+    @Test
+    public void testFisherYatesPermutationUniformity() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Shuffler shuffler = new FisherYatesShuffler();
+        int trials = 24000;
+        long[] counts = new long[24];
+        for(int trial = 0; trial < trials; trial++) {
+            byte[] cards = orderedCards(4);
+            shuffler.shuffle(cards, random);
+            // the Lehmer code of the ordering, which numbers the orderings 0 - 23
+            int rank = 0;
+            for(int i = 0; i < cards.length; i++) {
+                int smallerAfter = 0;
+                for(int j = i + 1; j < cards.length; j++) {
+                    if(cards[j] < cards[i]) {
+                        smallerAfter++;
+                    }
+                }
+                rank = rank * (cards.length - i) + smallerAfter;
+            }
+            counts[rank]++;
+        }
+        assertTrue(chiSquare(counts, trials / 24.0) < CRITICAL_VALUE_23_DEGREES);
+    }
+
+    /** tests that a card is equally likely to end up in any position of a deck under Fisher-Yates. */
+    @Order(2)
+    @Test
+    public void testFisherYatesPositionUniformity() {
+        assertTrue(positionChiSquare(new FisherYatesShuffler(), 26000) < CRITICAL_VALUE_51_DEGREES);
+    }
+
+    /** tests that the uniformity test detects a shuffle that is known not to be uniform. A single riffle leaves the
+     * first card near the top of the deck. */
+    @Order(3)
+    @Test
+    public void testSingleRiffleIsNotUniform() {
+        assertTrue(positionChiSquare(new RiffleShuffler(0), 26000) > CRITICAL_VALUE_51_DEGREES);
+    }
+
+    /** tests that every shuffle model rearranges the shoe without losing or duplicating any cards. */
+    @Order(4)
+    @Test
+    public void testModelsPreserveCards() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        byte[] expected = orderedCards(DEFAULT_NUMBER_OF_DECKS * NUMBER_OF_CARDS_PER_DECK);
+        Arrays.sort(expected);
+        for(ShuffleModel model : ShuffleModel.values()) {
+            Shuffler shuffler = model.create();
+            byte[] cards = orderedCards(expected.length);
+            for(int i = 0; i < 3; i++) {
+                shuffler.shuffle(cards, random);
+            }
+            Arrays.sort(cards);
+            assertArrayEquals(expected, cards, model.name());
+        }
+    }
+
+    /** tests the perfect versions of each casino shuffle, which are deterministic. */
+    @Order(5)
+    @Test
+    public void testPerfectShuffles() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        byte[] cards = orderedCards(8);
+        new RiffleShuffler(1).shuffle(cards, random);
+        assertArrayEquals(new byte[] {0, 4, 1, 5, 2, 6, 3, 7}, cards);
+
+        cards = orderedCards(8);
+        new CutShuffler(0).shuffle(cards, random);
+        assertArrayEquals(new byte[] {4, 5, 6, 7, 0, 1, 2, 3}, cards);
+
+        cards = orderedCards(6);
+        new StripShuffler(2, 0).shuffle(cards, random);
+        assertArrayEquals(new byte[] {4, 5, 2, 3, 0, 1}, cards);
+
+        cards = orderedCards(8);
+        new BoxShuffler(4, 0).shuffle(cards, random);
+        assertArrayEquals(new byte[] {6, 7, 4, 5, 2, 3, 0, 1}, cards);
+    }
+}
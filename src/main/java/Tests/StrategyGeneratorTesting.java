@@ -0,0 +1,88 @@
+package Tests;
+
+import Model.Actors.Strategies.Action;
+import Model.Actors.Strategies.PlayerStrategy;
+import Model.Actors.Strategies.StrategyChart;
+import Model.Actors.Strategies.StrategyGenerator;
+import Model.Cards.Card;
+import Model.Table.Hands.DealerHand;
+import Model.Table.Hands.PlayerHand;
+import Model.Table.Positions.PlayerPosition;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import static Model.Constants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class StrategyGeneratorTesting {
+
+    // testing instance variables
+    private final StrategyChart chart;
+
+    public StrategyGeneratorTesting() {
+        chart = StrategyGenerator.generate(DEFAULT_NUMBER_OF_DECKS);
+    }
+
+    /** tests that every hand the player strategy can look up has a decision. */
+    @Order(1)
+    @Test
+    public void testChartIsComplete() {
+        for(int dealerValue = 2; dealerValue <= ACE_UPPER_VALUE; dealerValue++) {
+            for(int playerValue = 4; playerValue <= BLACKJACK_CONSTANT; playerValue++) {
+                assertNotNull(chart.hardAction(playerValue, dealerValue));
+            }
+            for(int playerValue = ACE_UPPER_VALUE + ACE_LOWER_VALUE; playerValue <= BLACKJACK_CONSTANT; playerValue++) {
+                assertNotNull(chart.softAction(playerValue, dealerValue));
+            }
+            for(int pairValue = 2; pairValue <= ACE_UPPER_VALUE; pairValue++) {
+                assertNotNull(chart.splitAction(pairValue, dealerValue));
+            }
+        }
+    }
+
+    /** tests that the generated chart agrees with basic strategy on decisions that do not depend on the rules. */
+    @Order(2)
+    @Test
+    public void testBasicStrategyDecisions() {
+        assertEquals(Action.HIT, chart.hardAction(16, 10));
+        assertEquals(Action.STAND, chart.hardAction(13, 2));
+        assertEquals(Action.STAND, chart.hardAction(17, ACE_UPPER_VALUE));
+        assertEquals(Action.DOUBLE, chart.hardAction(11, 6));
+        assertEquals(Action.DOUBLE, chart.softAction(17, 4));
+        assertEquals(Action.STAND, chart.softAction(19, 10));
+    }
+
+    /** tests that aces and eights are split against small cards, while tens and fives never are. */
+    @Order(3)
+    @Test
+    public void testSplitDecisions() {
+        for(int dealerValue = 2; dealerValue <= 9; dealerValue++) {
+            assertEquals(Action.SPLIT, chart.splitAction(ACE_UPPER_VALUE, dealerValue));
+            assertEquals(Action.SPLIT, chart.splitAction(8, dealerValue));
+        }
+        for(int dealerValue = 2; dealerValue <= ACE_UPPER_VALUE; dealerValue++) {
+            assertEquals(Action.NO_SPLIT, chart.splitAction(10, dealerValue));
+            assertEquals(Action.NO_SPLIT, chart.splitAction(5, dealerValue));
+        }
+    }
+
+    /** tests that a soft hand of more than two cards is played from the soft chart, and that a double it can no longer
+     * make is played as a hit. A three-card soft 17 should hit against a 2 through 6 rather than stand. */
+    @Order(4)
+    @Test
+    public void testMultiCardSoftHand() {
+        PlayerStrategy strategy = new PlayerStrategy(chart);
+        for(int dealerValue = 2; dealerValue <= 6; dealerValue++) {
+            PlayerHand hand = new PlayerHand(new PlayerPosition(1));
+            hand.receiveCard(Card.of(ACE_RANK, 0));
+            hand.receiveCard(Card.of(2, 0));
+            hand.setHasHit(true);
+            hand.receiveCard(Card.of(4, 0));
+            DealerHand dealerHand = new DealerHand();
+            dealerHand.receiveCard(Card.of(dealerValue, 1));
+            assertEquals(Action.HIT, strategy.executeStrategy(hand, dealerHand));
+        }
+    }
+}
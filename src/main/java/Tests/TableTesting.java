@@ -4,6 +4,9 @@ import java.util.Map;
 import Exceptions.DeckCountException;
 import Exceptions.PlayerCountException;
 import Model.Actors.Player;
+import Model.Cards.Card;
+import Model.Chips;
+import Model.Table.Bets.BetKind;
 import Model.Table.Hands.PlayerHand;
 import Model.Table.Positions.PlayerPosition;
 import Model.Table.Table;
@@ -99,9 +102,11 @@ public class TableTesting {
         // a standard bet should be allocated to the first hand at a given position
         PlayerHand hand = player.getDefaultPosition().getHands().getFirst();
 
-        // the key in the set of pairs should be the player object while the value should be the corresponding bet
-        assertTrue(hand.getPairs().getFirst().getKey().equals(player)
-                && hand.getPairs().getFirst().getValue().getAmount() == 100);
+        // the first entry in the hand's ledger should be the player's standard bet for the corresponding amount (held
+        // in chip sub-units)
+        assertTrue(hand.getLedger().getPlayerId(0) == player.getId()
+                && hand.getLedger().getKind(0) == BetKind.STANDARD
+                && hand.getLedger().getAmount(0) == Chips.toUnits(100));
     }
 
     /** tests that the table's active hands list contains the correct number and instances of hands. */
@@ -199,4 +204,93 @@ public class TableTesting {
         table.hit(hand);
         assertEquals(size, hand.getCards().size());
     }
+
+    /** tests that each position reuses its hands from one round to the next, handing them back empty. */
+    @Order(18)
+    @Test
+    public void testHandsReusedBetweenRounds() {
+        PlayerHand hand = betOnDefaultPosition().getValue();
+        table.drawRoutine();
+        table.hit(hand);
+        table.windDownRoutine();
+        table.startupRoutine();
+        PlayerHand nextHand = table.getPlayers().getFirst().getDefaultPosition().getHands().getFirst();
+        assertSame(hand, nextHand);
+        assertFalse(nextHand.hasBet());
+        assertFalse(nextHand.hasHit());
+        assertEquals(0, nextHand.getCardCount());
+    }
+
+    /** tests that active hands are collected in position order, regardless of the order in which bets are booked. */
+    @Order(19)
+    @Test
+    public void testActiveHandsInPositionOrder() {
+        table.startupRoutine();
+        Player singlePlayer = table.getPlayers().getFirst();
+        PlayerPosition first = table.getPlayerPositionsIterable().get(0);
+        PlayerPosition third = table.getPlayerPositionsIterable().get(2);
+        table.bookStandardBet(singlePlayer, third, 100);
+        table.bookStandardBet(singlePlayer, first, 100);
+        table.setActiveHands();
+        assertEquals(2, table.getActiveHands().size());
+        assertSame(first.getHands().getFirst(), table.getActiveHands().get(0));
+        assertSame(third.getHands().getFirst(), table.getActiveHands().get(1));
+    }
+
+    /** tests that chip balances are exact to the sub-unit, so repeated fractional payouts do not drift. */
+    @Order(20)
+    @Test
+    public void testChipBalancesAreExact() {
+        Player player = new Player(0);
+        for(int i = 0; i < 1000; i++) {
+            player.receiveChips(0.1);
+        }
+        assertEquals(Chips.toUnits(100), player.getChipUnits());
+        assertEquals(100.0, player.getChips());
+    }
+
+    /** tests that an insurance bet pays out against a dealer blackjack while the standard bet on the same hand loses,
+     * and that the house is only credited once for the round. */
+    @Order(21)
+    @Test
+    public void testInsuranceSettlement() {
+        Map.Entry<Player, PlayerHand> bet = betOnDefaultPosition();
+        Player player = bet.getKey();
+        PlayerHand hand = bet.getValue();
+        table.setActiveHands();
+        hand.receiveCard(Card.of(KING_RANK, 0));
+        hand.receiveCard(Card.of(KING_RANK, 1));
+        table.getDealerHand().receiveCard(Card.of(ACE_RANK, 0));
+        table.getDealerHand().receiveCard(Card.of(KING_RANK, 2));
+        table.bookInsuranceBet(player, player.getDefaultPosition(), hand, 50);
+        long playerUnits = player.getChipUnits();
+        long dealerUnits = table.getDealer().getChipUnits();
+        table.windDownRoutine();
+        long insurancePayout = Chips.toUnits(50) * (1 + DEFAULT_INSURANCE_RATIO);
+        assertEquals(playerUnits + insurancePayout, player.getChipUnits());
+        assertEquals(dealerUnits + Chips.toUnits(150) - insurancePayout, table.getDealer().getChipUnits());
+        assertEquals(1, table.getPlayerLossCount());
+    }
+
+    /** tests that a double down is only reported as booked when the ledger accepts it, i.e. not once the hand has hit
+     * or when the player has already doubled. */
+    @Order(22)
+    @Test
+    public void testDoubleDownAcceptance() {
+        Map.Entry<Player, PlayerHand> bet = betOnDefaultPosition();
+        Player player = bet.getKey();
+        PlayerHand hand = bet.getValue();
+        hand.receiveCard(Card.of(2, 0));
+        hand.receiveCard(Card.of(3, 0));
+        assertTrue(table.bookDoubleDownBet(player, player.getDefaultPosition(), hand));
+        assertFalse(table.bookDoubleDownBet(player, player.getDefaultPosition(), hand));
+
+        Map.Entry<Player, PlayerHand> hitBet = betOnDefaultPosition();
+        PlayerHand hitHand = hitBet.getValue();
+        hitHand.receiveCard(Card.of(2, 1));
+        hitHand.receiveCard(Card.of(3, 1));
+        table.hit(hitHand);
+        assertFalse(table.bookDoubleDownBet(hitBet.getKey(), hitBet.getKey().getDefaultPosition(), hitHand));
+        assertFalse(hitHand.getLedger().hasBet(hitBet.getKey().getId(), BetKind.DOUBLE));
+    }
 }
@@ -2,8 +2,10 @@ module org.example.blackjack_emulator {
     requires java.sql;
     requires java.desktop;
     requires jdk.jfr;
+    requires java.management;
     requires static org.junit.jupiter.api;
     // requires org.example.blackjack_emulator;
     opens org.example.blackjack_emulator;
     exports org.example.blackjack_emulator;
+    exports Controller to java.management;
 }
\ No newline at end of file